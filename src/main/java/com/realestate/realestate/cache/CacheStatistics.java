@@ -0,0 +1,36 @@
+package com.realestate.realestate.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.realestate.realestate.dto.common.CacheStatsResponse;
+
+final class CacheStatistics {
+
+    private CacheStatistics() {
+    }
+
+    static CacheStatsResponse of(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        long size = cache.estimatedSize();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(size))
+                .orElse(size);
+        long maximum = cache.policy().eviction()
+                .map(eviction -> eviction.getMaximum())
+                .orElse(Long.MAX_VALUE);
+
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(size)
+                .weightedSize(weightedSize)
+                .maximumWeight(maximum)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.realestate.realestate.cache;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realestate.realestate.dto.category.CategoryResponse;
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.CategoryCreatedEvent;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.repository.CategoryRepository;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.IndexedEstate;
+import com.realestate.realestate.search.RebuildableState;
+import com.realestate.realestate.util.HttpCaching;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory snapshot of every category with its APPROVED estate counts. The
+ * catalogue is loaded once and then kept current by estate status
+ * transitions; a new category rebuilds it in the background. The counts are
+ * kept per estate, so a transition replayed onto a rebuild that already read
+ * it is not counted twice.
+ */
+@Component
+@Slf4j
+public class CategoryCatalogue {
+
+    private final CategoryRepository categoryRepository;
+    private final EstateRepository estateRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RebuildableState<State> states = new RebuildableState<>(new State(List.of()));
+
+    public CategoryCatalogue(
+            PlatformTransactionManager transactionManager,
+            CategoryRepository categoryRepository,
+            EstateRepository estateRepository) {
+        this.categoryRepository = categoryRepository;
+        this.estateRepository = estateRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Snapshot get() {
+        if (!states.isReady()) {
+            loadIfMissing();
+        }
+        return states.read(State::snapshot);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        loadIfMissing();
+    }
+
+    private synchronized void loadIfMissing() {
+        if (!states.isReady()) {
+            load();
+        }
+    }
+
+    private synchronized void load() {
+        long start = System.currentTimeMillis();
+        int categories = states.rebuild(() -> readOnlyTransaction.execute(status -> {
+            State fresh = new State(rows(categoryRepository.findAll()));
+            try (Stream<IndexedEstate> estates = estateRepository.streamApprovedForIndex()) {
+                estates.forEach(estate -> fresh.put(estate.getId(), estate.getCategoryId(), estate.getType()));
+            }
+            fresh.publish();
+            return fresh;
+        }), fresh -> fresh.rows.size());
+        log.info("Category catalogue loaded {} categories in {} ms", categories,
+                System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public void onEstateChanged(EstateChangedEvent event) {
+        if (!event.isApproved() && !event.wasApproved()) {
+            return;
+        }
+        Long estateId = event.getEstateId();
+        Long categoryId = event.getEstate().getCategoryId();
+        EstateType type = event.getEstate().getType();
+        states.apply(current -> {
+            if (event.isApproved()) {
+                current.put(estateId, categoryId, type);
+            } else {
+                current.remove(estateId);
+            }
+            current.publish();
+        });
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onCategoryCreated(CategoryCreatedEvent event) {
+        load();
+        log.info("Category catalogue rebuilt after category {} was created", event.getCategoryId());
+    }
+
+    private static List<Row> rows(List<Category> categories) {
+        return categories.stream()
+                .map(category -> new Row(category.getId(), category.getName(), category.getDescription()))
+                .toList();
+    }
+
+    /**
+     * What every request is served; a count change or a new category replaces
+     * it as a whole.
+     */
+    public record Snapshot(List<CategoryResponse> categories, String eTag) {
+    }
+
+    private record Row(Long id, String name, String description) {
+    }
+
+    private record Listing(Long categoryId, EstateType type) {
+    }
+
+    private static final class State {
+        private final List<Row> rows;
+        private final Map<Long, Listing> listings = new HashMap<>();
+        private final Map<Long, Map<EstateType, Long>> counts = new HashMap<>();
+        private Snapshot snapshot;
+        private boolean changed = true;
+
+        State(List<Row> rows) {
+            this.rows = rows;
+        }
+
+        Snapshot snapshot() {
+            return snapshot;
+        }
+
+        void put(Long estateId, Long categoryId, EstateType type) {
+            Listing listing = new Listing(categoryId, type);
+            Listing previous = listings.put(estateId, listing);
+            if (listing.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                count(previous, -1);
+            }
+            count(listing, 1);
+        }
+
+        void remove(Long estateId) {
+            Listing previous = listings.remove(estateId);
+            if (previous != null) {
+                count(previous, -1);
+            }
+        }
+
+        private void count(Listing listing, long change) {
+            counts.computeIfAbsent(listing.categoryId(), id -> new EnumMap<>(EstateType.class))
+                    .merge(listing.type(), change, Long::sum);
+            changed = true;
+        }
+
+        void publish() {
+            if (!changed) {
+                return;
+            }
+            List<CategoryResponse> categories = rows.stream()
+                    .map(row -> {
+                        Map<EstateType, Long> byType = new EnumMap<>(EstateType.class);
+                        for (EstateType type : EstateType.values()) {
+                            byType.put(type, counts.getOrDefault(row.id(), Map.of()).getOrDefault(type, 0L));
+                        }
+                        return CategoryResponse.builder()
+                                .id(row.id())
+                                .name(row.name())
+                                .description(row.description())
+                                .approvedEstates(byType.values().stream().mapToLong(Long::longValue).sum())
+                                .approvedEstatesByType(Collections.unmodifiableMap(byType))
+                                .build();
+                    })
+                    .toList();
+            snapshot = new Snapshot(categories, HttpCaching.categoriesETag(categories));
+            changed = false;
+        }
+    }
+}
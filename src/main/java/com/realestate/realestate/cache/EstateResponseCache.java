@@ -0,0 +1,131 @@
+package com.realestate.realestate.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.realestate.dto.common.CacheStatsResponse;
+import com.realestate.realestate.dto.estate.EstateResponse;
+import com.realestate.realestate.dto.seller.SellerResponse;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.event.SellerChangedEvent;
+import com.realestate.realestate.repository.EstateRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fully built estate detail responses, bounded by an estimate of their heap
+ * size. Concurrent misses for the same id share one load, and the load runs in
+ * its own read-only transaction so hits never take a connection. Entries are
+ * dropped after commit of every estate mutation and seller profile change.
+ */
+@Component
+@Slf4j
+public class EstateResponseCache {
+
+    private static final int ENTRY_OVERHEAD = 1024;
+    private static final int IMAGE_OVERHEAD = 96;
+    private static final int CHARACTERISTIC_OVERHEAD = 96;
+
+    private final Cache<Long, EstateResponse> cache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EstateRepository estateRepository;
+
+    public EstateResponseCache(
+            PlatformTransactionManager transactionManager,
+            EstateRepository estateRepository,
+            @Value("${app.cache.estate-details.max-weight:67108864}") long maximumWeight,
+            @Value("${app.cache.estate-details.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        this.estateRepository = estateRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long id, EstateResponse response) -> weigh(response))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public EstateResponse get(Long id, Function<Long, EstateResponse> loader) {
+        return cache.get(id, key -> readOnlyTransaction.execute(status -> loader.apply(key)));
+    }
+
+    /**
+     * Cached responses for the given ids; the missing ones are loaded together
+     * in one transaction. Ids the loader does not return are left out.
+     */
+    public Map<Long, EstateResponse> getAll(Collection<Long> ids,
+            Function<Set<Long>, Map<Long, EstateResponse>> loader) {
+        return cache.getAll(ids, missing -> readOnlyTransaction.execute(status -> loader.apply(Set.copyOf(missing))));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onEstateChanged(EstateChangedEvent event) {
+        cache.invalidate(event.getEstateId());
+    }
+
+    @TransactionalEventListener
+    public void onSellerChanged(SellerChangedEvent event) {
+        List<Long> estateIds = estateRepository.findIdsBySellerId(event.getSellerId());
+        cache.invalidateAll(estateIds);
+        log.debug("Dropped {} cached estates of seller {}", estateIds.size(), event.getSellerId());
+    }
+
+    public CacheStatsResponse stats() {
+        return CacheStatistics.of("estate-details", cache);
+    }
+
+    static int weigh(EstateResponse response) {
+        long bytes = ENTRY_OVERHEAD
+                + chars(response.getName())
+                + chars(response.getDescription())
+                + chars(response.getCity())
+                + chars(response.getAddress())
+                + chars(response.getCategoryName());
+
+        SellerResponse seller = response.getSeller();
+        if (seller != null) {
+            bytes += chars(seller.getUserName())
+                    + chars(seller.getUserEmail())
+                    + chars(seller.getUserPhone())
+                    + chars(seller.getUserProfilePicture())
+                    + chars(seller.getCity())
+                    + chars(seller.getAddress())
+                    + chars(seller.getCompanyName())
+                    + chars(seller.getLicenseNumber())
+                    + chars(seller.getBio())
+                    + chars(seller.getVerificationNotes());
+        }
+        if (response.getImages() != null) {
+            for (EstateResponse.EstateImageResponse image : response.getImages()) {
+                bytes += IMAGE_OVERHEAD + chars(image.getUrl());
+            }
+        }
+        if (response.getCharacteristics() != null) {
+            for (EstateResponse.CharacteristicResponse characteristic : response.getCharacteristics()) {
+                bytes += CHARACTERISTIC_OVERHEAD + chars(characteristic.getName()) + chars(characteristic.getValue());
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long chars(String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+}
@@ -0,0 +1,120 @@
+package com.realestate.realestate.cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.realestate.dto.common.CacheStatsResponse;
+import com.realestate.realestate.dto.common.SliceResponse;
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.enums.CountMode;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.search.AttributeFilter;
+import com.realestate.realestate.search.IndexedEstate;
+import com.realestate.realestate.util.TextFolding;
+
+/**
+ * Public listing pages keyed by their normalized filter. Entries live for a
+ * few seconds, concurrent misses on one key share a single query, and an
+ * estate entering or leaving the approved set drops every page whose filter
+ * it matches. The drop happens on the indexer thread once the search indexes
+ * have applied the change, so a page read from the old index in between is
+ * not kept for the whole TTL.
+ */
+@Component
+public class ListingPageCache {
+
+    private final Cache<Key, SliceResponse<EstateBasicResponse>> cache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ListingPageCache(
+            PlatformTransactionManager transactionManager,
+            @Value("${app.cache.listing-pages.max-size:10000}") long maximumSize,
+            @Value("${app.cache.listing-pages.ttl:PT5S}") Duration ttl) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public SliceResponse<EstateBasicResponse> get(Key key, Supplier<SliceResponse<EstateBasicResponse>> loader) {
+        return cache.get(key, k -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public void invalidateMatching(EstateChangedEvent event) {
+        if (event.isApproved() || event.wasApproved()) {
+            cache.asMap().keySet().removeIf(key -> key.matches(event.getEstate()));
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        return CacheStatistics.of("listing-pages", cache);
+    }
+
+    public record Key(
+            String city,
+            EstateType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Long categoryId,
+            AttributeFilter attributes,
+            String sort,
+            int page,
+            int size,
+            CountMode countMode) {
+
+        public static Key of(
+                String city,
+                EstateType type,
+                BigDecimal minPrice,
+                BigDecimal maxPrice,
+                Long categoryId,
+                Pageable pageable,
+                CountMode countMode) {
+            return of(city, type, minPrice, maxPrice, categoryId, AttributeFilter.NONE, pageable, countMode);
+        }
+
+        public static Key of(
+                String city,
+                EstateType type,
+                BigDecimal minPrice,
+                BigDecimal maxPrice,
+                Long categoryId,
+                AttributeFilter attributes,
+                Pageable pageable,
+                CountMode countMode) {
+            return new Key(TextFolding.fold(city), type, normalize(minPrice), normalize(maxPrice), categoryId,
+                    attributes, pageable.getSort().toString(), pageable.getPageNumber(), pageable.getPageSize(),
+                    countMode);
+        }
+
+        boolean matches(IndexedEstate estate) {
+            return (city == null || city.equals(estate.getCityKey()))
+                    && (type == null || type == estate.getType())
+                    && (categoryId == null || categoryId.equals(estate.getCategoryId()))
+                    && (minPrice == null || minPrice.doubleValue() <= estate.getPrice())
+                    && (maxPrice == null || maxPrice.doubleValue() >= estate.getPrice())
+                    && attributes.matches(estate);
+        }
+
+        private static BigDecimal normalize(BigDecimal price) {
+            return price == null ? null : price.stripTrailingZeros();
+        }
+    }
+}
@@ -4,16 +4,23 @@ import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.realestate.realestate.cache.EstateResponseCache;
+import com.realestate.realestate.cache.ListingPageCache;
 import com.realestate.realestate.dto.auth.MessageResponse;
+import com.realestate.realestate.dto.common.CacheStatsResponse;
 import com.realestate.realestate.dto.seller.SellerResponse;
 import com.realestate.realestate.dto.seller.VerifySellerRequest;
+import com.realestate.realestate.service.EstateIndexService;
+import com.realestate.realestate.service.FavoriteRecommendationService;
 import com.realestate.realestate.service.SellerService;
 
 import jakarta.validation.Valid;
@@ -26,6 +33,10 @@ import lombok.RequiredArgsConstructor;
 public class AdminController {
 
     private final SellerService sellerService;
+    private final EstateIndexService estateIndexService;
+    private final FavoriteRecommendationService favoriteRecommendationService;
+    private final EstateResponseCache estateResponseCache;
+    private final ListingPageCache listingPageCache;
 
     @GetMapping("/sellers/pending")
     public ResponseEntity<List<SellerResponse>> getPendingSellers() {
@@ -48,4 +59,50 @@ public class AdminController {
                 .message(message)
                 .build());
     }
+
+    @PostMapping("/estates/reindex")
+    public ResponseEntity<MessageResponse> reindexEstates() {
+        int indexed = estateIndexService.reindex();
+
+        return ResponseEntity.ok(MessageResponse.builder()
+                .message("Estate search index rebuilt with " + indexed + " approved estates")
+                .build());
+    }
+
+    @PostMapping("/recommendations/rebuild")
+    public ResponseEntity<MessageResponse> rebuildRecommendations() {
+        int recommended = favoriteRecommendationService.rebuild();
+
+        return ResponseEntity.ok(MessageResponse.builder()
+                .message("Co-favorite recommendations rebuilt for " + recommended + " estates")
+                .build());
+    }
+
+    @GetMapping("/cache/estates")
+    public ResponseEntity<CacheStatsResponse> getEstateCacheStats() {
+        return ResponseEntity.ok(estateResponseCache.stats());
+    }
+
+    @DeleteMapping("/cache/estates")
+    public ResponseEntity<MessageResponse> clearEstateCache() {
+        estateResponseCache.invalidateAll();
+
+        return ResponseEntity.ok(MessageResponse.builder()
+                .message("Estate detail cache cleared")
+                .build());
+    }
+
+    @GetMapping("/cache/listings")
+    public ResponseEntity<CacheStatsResponse> getListingCacheStats() {
+        return ResponseEntity.ok(listingPageCache.stats());
+    }
+
+    @DeleteMapping("/cache/listings")
+    public ResponseEntity<MessageResponse> clearListingCache() {
+        listingPageCache.invalidateAll();
+
+        return ResponseEntity.ok(MessageResponse.builder()
+                .message("Listing page cache cleared")
+                .build());
+    }
 }
@@ -1,6 +1,5 @@
 package com.realestate.realestate.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +14,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.realestate.realestate.dto.appointment.AppointmentResponse;
 import com.realestate.realestate.dto.appointment.CreateAppointmentRequest;
+import com.realestate.realestate.dto.common.SliceResponse;
+import com.realestate.realestate.enums.CountMode;
 import com.realestate.realestate.service.AppointmentService;
 
 import jakarta.validation.Valid;
@@ -36,10 +37,12 @@ public class AppointmentController {
 
     @GetMapping("/my-requests")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<Page<AppointmentResponse>> getMyAppointmentRequests(
+    public ResponseEntity<SliceResponse<AppointmentResponse>> getMyAppointmentRequests(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<AppointmentResponse> appointments = appointmentService.getMyAppointmentRequests(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        SliceResponse<AppointmentResponse> appointments = appointmentService.getMyAppointmentRequests(
+                page, size, CountMode.from(count));
         return ResponseEntity.ok(appointments);
     }
 
@@ -52,19 +55,23 @@ public class AppointmentController {
 
     @GetMapping("/my-appointments")
     @PreAuthorize("hasRole('SELLER')")
-    public ResponseEntity<Page<AppointmentResponse>> getMySellerAppointments(
+    public ResponseEntity<SliceResponse<AppointmentResponse>> getMySellerAppointments(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<AppointmentResponse> appointments = appointmentService.getMySellerAppointments(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        SliceResponse<AppointmentResponse> appointments = appointmentService.getMySellerAppointments(
+                page, size, CountMode.from(count));
         return ResponseEntity.ok(appointments);
     }
 
     @GetMapping("/pending")
     @PreAuthorize("hasRole('SELLER')")
-    public ResponseEntity<Page<AppointmentResponse>> getPendingAppointments(
+    public ResponseEntity<SliceResponse<AppointmentResponse>> getPendingAppointments(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<AppointmentResponse> appointments = appointmentService.getPendingAppointments(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        SliceResponse<AppointmentResponse> appointments = appointmentService.getPendingAppointments(
+                page, size, CountMode.from(count));
         return ResponseEntity.ok(appointments);
     }
 
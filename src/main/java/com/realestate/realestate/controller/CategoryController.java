@@ -2,18 +2,22 @@ package com.realestate.realestate.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.realestate.realestate.cache.CategoryCatalogue;
 import com.realestate.realestate.dto.category.CategoryRequest;
 import com.realestate.realestate.dto.category.CategoryResponse;
 import com.realestate.realestate.service.CategoryService;
+import com.realestate.realestate.util.HttpCaching;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -26,8 +30,20 @@ public class CategoryController {
     private final CategoryService categoryService;
 
     @GetMapping("/all")
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(@RequestHeader HttpHeaders requestHeaders) {
+        CategoryCatalogue.Snapshot catalogue = categoryService.getCatalogue();
+
+        if (HttpCaching.isNotModified(requestHeaders, catalogue.eTag(), -1)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(HttpCaching.PUBLIC_DETAIL)
+                    .eTag(catalogue.eTag())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.PUBLIC_DETAIL)
+                .eTag(catalogue.eTag())
+                .body(catalogue.categories());
     }
 
     @PostMapping
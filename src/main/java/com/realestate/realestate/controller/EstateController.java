@@ -1,12 +1,17 @@
 package com.realestate.realestate.controller;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,15 +20,37 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.realestate.realestate.dto.common.CursorPageResponse;
+import com.realestate.realestate.dto.common.SliceResponse;
+import com.realestate.realestate.dto.estate.CitySuggestion;
 import com.realestate.realestate.dto.estate.CreateEstateRequest;
 import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.dto.estate.EstateBatchResponse;
+import com.realestate.realestate.dto.estate.EstateFacetsResponse;
+import com.realestate.realestate.dto.estate.EstateImportResponse;
 import com.realestate.realestate.dto.estate.EstateResponse;
+import com.realestate.realestate.dto.estate.EstateVersion;
+import com.realestate.realestate.dto.estate.PriceStatsResponse;
+import com.realestate.realestate.enums.CountMode;
+import com.realestate.realestate.enums.EngagementType;
 import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.enums.ImportJobStatus;
+import com.realestate.realestate.search.AttributeFilter;
+import com.realestate.realestate.service.CitySuggestService;
+import com.realestate.realestate.service.EstateExportService;
+import com.realestate.realestate.service.EstateImportService;
 import com.realestate.realestate.service.EstateService;
+import com.realestate.realestate.service.EstateStatsService;
+import com.realestate.realestate.service.EstateViewService;
+import com.realestate.realestate.service.TrendingService;
+import com.realestate.realestate.util.HttpCaching;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,59 +61,290 @@ import lombok.RequiredArgsConstructor;
 public class EstateController {
 
     private final EstateService estateService;
+    private final EstateStatsService estateStatsService;
+    private final EstateExportService estateExportService;
+    private final EstateImportService estateImportService;
+    private final TrendingService trendingService;
+    private final CitySuggestService citySuggestService;
+    private final EstateViewService estateViewService;
 
     @GetMapping("/public/sale")
-    public ResponseEntity<Page<EstateBasicResponse>> getEstatesForSale(
+    public ResponseEntity<SliceResponse<EstateBasicResponse>> getEstatesForSale(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer minBathrooms,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(defaultValue = "exact") String count) {
 
         Sort.Direction direction = sortDir.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<EstateBasicResponse> estates = estateService.searchEstates(
-                city, EstateType.SALE, minPrice, maxPrice, categoryId, pageable);
+        SliceResponse<EstateBasicResponse> estates = estateService.searchEstates(
+                city, EstateType.SALE, minPrice, maxPrice, categoryId,
+                new AttributeFilter(minBedrooms, minBathrooms, minArea, maxArea), pageable, CountMode.from(count));
 
-        return ResponseEntity.ok(estates);
+        return publicListing(estates, estates.getContent(), estates.getPage());
     }
 
     @GetMapping("/public/rent")
-    public ResponseEntity<Page<EstateBasicResponse>> getEstatesForRent(
+    public ResponseEntity<SliceResponse<EstateBasicResponse>> getEstatesForRent(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer minBathrooms,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(defaultValue = "exact") String count) {
 
         Sort.Direction direction = sortDir.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<EstateBasicResponse> estates = estateService.searchEstates(
-                city, EstateType.RENT, minPrice, maxPrice, categoryId, pageable);
+        SliceResponse<EstateBasicResponse> estates = estateService.searchEstates(
+                city, EstateType.RENT, minPrice, maxPrice, categoryId,
+                new AttributeFilter(minBedrooms, minBathrooms, minArea, maxArea), pageable, CountMode.from(count));
 
-        return ResponseEntity.ok(estates);
+        return publicListing(estates, estates.getContent(), estates.getPage());
     }
 
     @GetMapping("/public/all")
-    public ResponseEntity<Page<EstateBasicResponse>> getAllEstates(
+    public ResponseEntity<SliceResponse<EstateBasicResponse>> getAllEstates(
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        SliceResponse<EstateBasicResponse> estates = estateService.getAllEstates(page, size, CountMode.from(count));
+        return publicListing(estates, estates.getContent(), estates.getPage());
+    }
+
+    @GetMapping("/public/sale/scroll")
+    public ResponseEntity<CursorPageResponse<EstateBasicResponse>> scrollEstatesForSale(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer minBathrooms,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir) {
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        CursorPageResponse<EstateBasicResponse> estates = estateService.scrollEstates(
+                city, EstateType.SALE, minPrice, maxPrice, categoryId,
+                new AttributeFilter(minBedrooms, minBathrooms, minArea, maxArea), sortBy, direction, after, size);
+
+        return publicListing(estates, estates.getContent(), estates.isHasNext() + ":" + estates.getNextCursor());
+    }
+
+    @GetMapping("/public/rent/scroll")
+    public ResponseEntity<CursorPageResponse<EstateBasicResponse>> scrollEstatesForRent(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer minBathrooms,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir) {
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        CursorPageResponse<EstateBasicResponse> estates = estateService.scrollEstates(
+                city, EstateType.RENT, minPrice, maxPrice, categoryId,
+                new AttributeFilter(minBedrooms, minBathrooms, minArea, maxArea), sortBy, direction, after, size);
+
+        return publicListing(estates, estates.getContent(), estates.isHasNext() + ":" + estates.getNextCursor());
+    }
+
+    @GetMapping("/public/all/scroll")
+    public ResponseEntity<CursorPageResponse<EstateBasicResponse>> scrollAllEstates(
+            @RequestParam(required = false) String after,
             @RequestParam(defaultValue = "10") int size) {
-        Page<EstateBasicResponse> estates = estateService.getAllEstates(page, size);
-        return ResponseEntity.ok(estates);
+        CursorPageResponse<EstateBasicResponse> estates = estateService.scrollEstates(
+                null, null, null, null, null, AttributeFilter.NONE, "createdAt", Sort.Direction.DESC, after, size);
+        return publicListing(estates, estates.getContent(), estates.isHasNext() + ":" + estates.getNextCursor());
+    }
+
+    @GetMapping("/public/search")
+    public ResponseEntity<Page<EstateBasicResponse>> searchEstatesByText(
+            @RequestParam String q,
+            @RequestParam(required = false) EstateType type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer minBathrooms,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "relevance") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir) {
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        Page<EstateBasicResponse> estates = estateService.fullTextSearch(
+                q, type, minPrice, maxPrice, categoryId,
+                new AttributeFilter(minBedrooms, minBathrooms, minArea, maxArea), sortBy, direction, page, size);
+
+        return publicListing(estates, estates.getContent(),
+                estates.getNumber() + ":" + estates.getSize() + ":" + estates.getTotalElements());
+    }
+
+    @GetMapping("/public/facets")
+    public ResponseEntity<EstateFacetsResponse> getFacets(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) EstateType type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Long categoryId) {
+
+        EstateFacetsResponse facets = estateService.getFacets(city, type, minPrice, maxPrice, categoryId);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PUBLIC_LISTING).body(facets);
+    }
+
+    @GetMapping("/public/stats")
+    public ResponseEntity<PriceStatsResponse> getPriceStats(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) EstateType type) {
+
+        PriceStatsResponse stats = estateStatsService.getStats(city, categoryId, type);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PUBLIC_LISTING).body(stats);
+    }
+
+    @GetMapping("/public/nearby")
+    public ResponseEntity<Page<EstateBasicResponse>> searchNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) EstateType type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer minBathrooms,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<EstateBasicResponse> estates = estateService.searchNearby(
+                lat, lon, radiusKm, type, minPrice, maxPrice, categoryId,
+                new AttributeFilter(minBedrooms, minBathrooms, minArea, maxArea), page, size);
+
+        return publicListing(estates, estates.getContent(),
+                estates.getNumber() + ":" + estates.getSize() + ":" + estates.getTotalElements());
+    }
+
+    @GetMapping("/public/bbox")
+    public ResponseEntity<Page<EstateBasicResponse>> searchWithinBox(
+            @RequestParam double minLat,
+            @RequestParam double maxLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLon,
+            @RequestParam(required = false) EstateType type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer minBathrooms,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<EstateBasicResponse> estates = estateService.searchWithinBox(
+                minLat, maxLat, minLon, maxLon, type, minPrice, maxPrice, categoryId,
+                new AttributeFilter(minBedrooms, minBathrooms, minArea, maxArea), page, size);
+
+        return publicListing(estates, estates.getContent(),
+                estates.getNumber() + ":" + estates.getSize() + ":" + estates.getTotalElements());
+    }
+
+    @GetMapping("/public/batch")
+    public ResponseEntity<EstateBatchResponse> getEstatesByIds(@RequestParam List<Long> ids) {
+        EstateBatchResponse estates = estateService.getEstatesByIds(ids);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PUBLIC_LISTING).body(estates);
     }
 
     @GetMapping("/public/{id}")
-    public ResponseEntity<EstateResponse> getEstateById(@PathVariable Long id) {
+    public ResponseEntity<EstateResponse> getEstateById(
+            @PathVariable Long id,
+            @RequestHeader HttpHeaders requestHeaders) {
+
+        EstateVersion version = estateService.getEstateVersion(id);
+        String eTag = HttpCaching.eTag(version);
+        long lastModified = HttpCaching.lastModified(version);
+        trendingService.record(id, EngagementType.VIEW);
+        estateViewService.record(id);
+
+        if (HttpCaching.isNotModified(requestHeaders, eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(HttpCaching.PUBLIC_DETAIL)
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .build();
+        }
+
         EstateResponse estate = estateService.getEstateById(id);
-        return ResponseEntity.ok(estate);
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.PUBLIC_DETAIL)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .body(estate);
+    }
+
+    @GetMapping("/public/{id}/similar")
+    public ResponseEntity<List<EstateBasicResponse>> getSimilarEstates(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "6") int limit) {
+        List<EstateBasicResponse> estates = estateService.getSimilarEstates(id, limit);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PUBLIC_LISTING).body(estates);
+    }
+
+    @GetMapping("/public/trending")
+    public ResponseEntity<List<EstateBasicResponse>> getTrendingEstates(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<EstateBasicResponse> estates = trendingService.getTrending(limit);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PUBLIC_LISTING).body(estates);
+    }
+
+    @GetMapping("/public/cities/suggest")
+    public ResponseEntity<List<CitySuggestion>> suggestCities(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<CitySuggestion> cities = citySuggestService.suggest(prefix, limit);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PUBLIC_LISTING).body(cities);
+    }
+
+    @GetMapping("/public/{id}/also-saved")
+    public ResponseEntity<List<EstateBasicResponse>> getAlsoSavedEstates(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "6") int limit) {
+        List<EstateBasicResponse> estates = estateService.getAlsoSavedEstates(id, limit);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PUBLIC_LISTING).body(estates);
     }
 
     @PostMapping
@@ -96,13 +354,59 @@ public class EstateController {
         return ResponseEntity.status(HttpStatus.CREATED).body(estateResponse);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('SELLER')")
+    public ResponseEntity<EstateImportResponse> importEstates(@RequestBody List<CreateEstateRequest> requests) {
+        return importResponse(estateImportService.importEstates(requests));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('SELLER')")
+    public ResponseEntity<EstateImportResponse> importEstatesFile(@RequestParam("file") MultipartFile file) {
+        return importResponse(estateImportService.importFile(file));
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('SELLER')")
+    public ResponseEntity<EstateImportResponse> getImportJob(@PathVariable String jobId) {
+        EstateImportResponse job = estateImportService.getJob(jobId);
+        return ResponseEntity.ok().cacheControl(HttpCaching.PRIVATE).body(job);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> exportEstates(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024, true)) {
+                    estateExportService.exportApproved(compressed);
+                }
+            } else {
+                estateExportService.exportApproved(out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(HttpCaching.PRIVATE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"estates.ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/my-estates")
     @PreAuthorize("hasRole('SELLER')")
-    public ResponseEntity<Page<EstateResponse>> getMyEstates(
+    public ResponseEntity<SliceResponse<EstateResponse>> getMyEstates(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<EstateResponse> estates = estateService.getMyEstates(page, size);
-        return ResponseEntity.ok(estates);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        SliceResponse<EstateResponse> estates = estateService.getMyEstates(page, size, CountMode.from(count));
+        return ResponseEntity.ok().cacheControl(HttpCaching.PRIVATE).body(estates);
     }
 
     @DeleteMapping("/{id}")
@@ -128,11 +432,12 @@ public class EstateController {
 
     @GetMapping("/pending")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<EstateResponse>> getPendingEstates(
+    public ResponseEntity<SliceResponse<EstateResponse>> getPendingEstates(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<EstateResponse> estates = estateService.getPendingEstates(page, size);
-        return ResponseEntity.ok(estates);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        SliceResponse<EstateResponse> estates = estateService.getPendingEstates(page, size, CountMode.from(count));
+        return ResponseEntity.ok().cacheControl(HttpCaching.PRIVATE).body(estates);
     }
 
     @PatchMapping("/{id}/approve")
@@ -149,4 +454,19 @@ public class EstateController {
         return ResponseEntity.ok(estateResponse);
     }
 
+    private static ResponseEntity<EstateImportResponse> importResponse(EstateImportResponse job) {
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            return ResponseEntity.ok(job);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/estates/import/" + job.getJobId()))
+                .body(job);
+    }
+
+    private static <T> ResponseEntity<T> publicListing(T body, List<EstateBasicResponse> content, Object pageState) {
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.PUBLIC_LISTING)
+                .eTag(HttpCaching.listingETag(content, pageState))
+                .body(body);
+    }
 }
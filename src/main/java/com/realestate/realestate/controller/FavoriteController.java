@@ -1,6 +1,5 @@
 package com.realestate.realestate.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,9 +11,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.realestate.realestate.dto.common.SliceResponse;
 import com.realestate.realestate.dto.favorite.FavoriteCheckResponse;
 import com.realestate.realestate.dto.favorite.FavoriteCountResponse;
 import com.realestate.realestate.dto.favorite.FavoriteResponse;
+import com.realestate.realestate.enums.CountMode;
 import com.realestate.realestate.service.FavoriteService;
 
 import lombok.RequiredArgsConstructor;
@@ -39,10 +40,11 @@ public class FavoriteController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<FavoriteResponse>> getMyFavorites(
+    public ResponseEntity<SliceResponse<FavoriteResponse>> getMyFavorites(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<FavoriteResponse> favorites = favoriteService.getMyFavorites(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        SliceResponse<FavoriteResponse> favorites = favoriteService.getMyFavorites(page, size, CountMode.from(count));
         return ResponseEntity.ok(favorites);
     }
 
@@ -0,0 +1,47 @@
+package com.realestate.realestate.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.realestate.realestate.dto.savedsearch.CreateSavedSearchRequest;
+import com.realestate.realestate.dto.savedsearch.SavedSearchResponse;
+import com.realestate.realestate.service.SavedSearchService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('USER')")
+public class SavedSearchController {
+    private final SavedSearchService savedSearchService;
+
+    @PostMapping
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(
+            @Valid @RequestBody CreateSavedSearchRequest request) {
+        SavedSearchResponse response = savedSearchService.createSavedSearch(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponse>> getMySavedSearches() {
+        return ResponseEntity.ok(savedSearchService.getMySavedSearches());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.noContent().build();
+    }
+}
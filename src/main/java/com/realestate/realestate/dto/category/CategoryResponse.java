@@ -1,5 +1,9 @@
 package com.realestate.realestate.dto.category;
 
+import java.util.Map;
+
+import com.realestate.realestate.enums.EstateType;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,4 +17,6 @@ public class CategoryResponse {
     private Long id;
     private String name;
     private String description;
+    private Long approvedEstates;
+    private Map<EstateType, Long> approvedEstatesByType;
 }
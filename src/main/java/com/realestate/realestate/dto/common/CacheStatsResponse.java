@@ -0,0 +1,24 @@
+package com.realestate.realestate.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;
+    private long size;
+    private long weightedSize;
+    private long maximumWeight;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private double averageLoadPenaltyMillis;
+    private long evictionCount;
+}
@@ -0,0 +1,71 @@
+package com.realestate.realestate.dto.common;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Listing page with the same shape as the serialized {@code PagedModel}, but
+ * whose totals may be missing or estimated so the COUNT query can be skipped.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private PageMetadata page;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PageMetadata {
+        private long size;
+        private long number;
+        private Long totalElements;
+        private Long totalPages;
+        private boolean hasNext;
+        private Boolean estimated;
+    }
+
+    public static <T> SliceResponse<T> of(Page<T> page) {
+        return new SliceResponse<>(page.getContent(), PageMetadata.builder()
+                .size(page.getSize())
+                .number(page.getNumber())
+                .totalElements(page.getTotalElements())
+                .totalPages((long) page.getTotalPages())
+                .hasNext(page.hasNext())
+                .build());
+    }
+
+    public static <T> SliceResponse<T> of(Slice<T> slice, Long estimatedTotal) {
+        PageMetadata.PageMetadataBuilder metadata = PageMetadata.builder()
+                .size(slice.getSize())
+                .number(slice.getNumber())
+                .hasNext(slice.hasNext());
+
+        if (!slice.hasNext()) {
+            long total = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+            metadata.totalElements(total).totalPages(totalPages(total, slice.getSize()));
+        } else if (estimatedTotal != null) {
+            long minimum = (long) (slice.getNumber() + 1) * slice.getSize() + 1;
+            long total = Math.max(estimatedTotal, minimum);
+            metadata.totalElements(total).totalPages(totalPages(total, slice.getSize())).estimated(true);
+        }
+        return new SliceResponse<>(slice.getContent(), metadata.build());
+    }
+
+    private static long totalPages(long total, int size) {
+        return size == 0 ? 1 : (total + size - 1) / size;
+    }
+}
@@ -0,0 +1,15 @@
+package com.realestate.realestate.dto.estate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CitySuggestion {
+    private String city;
+    private long estates;
+}
@@ -4,9 +4,11 @@ import java.util.List;
 
 import com.realestate.realestate.enums.EstateType;
 
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,11 +41,20 @@ public class CreateEstateRequest {
     
     @NotBlank(message = "City is required")
     @Size(max = 100, message = "City must not exceed 100 characters")
+    @Pattern(regexp = "(?s).*[\\p{L}\\p{N}].*", message = "City must contain letters or numbers")
     private String city;
     
     @NotBlank(message = "Address is required")
     @Size(max = 255, message = "Address must not exceed 255 characters")
     private String address;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
     
     private List<String> imageUrls;
     
@@ -1,5 +1,7 @@
 package com.realestate.realestate.dto.estate;
 
+import java.time.LocalDateTime;
+
 import com.realestate.realestate.enums.EstateType;
 
 import lombok.AllArgsConstructor;
@@ -19,4 +21,8 @@ public class EstateBasicResponse {
     private String city;
     private String address;
     private String mainImageUrl;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
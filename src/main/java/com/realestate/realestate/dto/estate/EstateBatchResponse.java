@@ -0,0 +1,34 @@
+package com.realestate.realestate.dto.estate;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One item per requested id, in request order. Ids that cannot be shown carry
+ * a status and error instead of failing the whole batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstateBatchResponse {
+    private List<Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private Long id;
+        private int status;
+        private EstateResponse estate;
+        private String error;
+    }
+}
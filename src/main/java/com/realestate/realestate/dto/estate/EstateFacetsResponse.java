@@ -0,0 +1,20 @@
+package com.realestate.realestate.dto.estate;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstateFacetsResponse {
+    private long total;
+    private List<FacetValue> cities;
+    private List<FacetValue> types;
+    private List<FacetValue> categories;
+    private List<PriceRangeFacet> priceRanges;
+}
@@ -0,0 +1,45 @@
+package com.realestate.realestate.dto.estate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.realestate.realestate.enums.ImportJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EstateImportResponse {
+    private String jobId;
+    private ImportJobStatus status;
+    private int totalRows;
+    private int processedRows;
+    private int importedRows;
+    private int failedRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private List<RowResult> rows;
+
+    /**
+     * Outcome of one imported row; {@code row} is its 1-based position in the
+     * uploaded array or CSV data.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowResult {
+        private int row;
+        private Long estateId;
+        private List<String> errors;
+    }
+}
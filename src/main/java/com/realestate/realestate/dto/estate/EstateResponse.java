@@ -3,6 +3,7 @@ package com.realestate.realestate.dto.estate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.realestate.realestate.dto.seller.SellerResponse;
 import com.realestate.realestate.enums.EstateStatus;
 import com.realestate.realestate.enums.EstateType;
@@ -27,6 +28,12 @@ public class EstateResponse {
     
     private String city;
     private String address;
+    private Double latitude;
+    private Double longitude;
+
+    private Integer bedrooms;
+    private Integer bathrooms;
+    private Double area;
     
     private Long categoryId;
     private String categoryName;
@@ -39,6 +46,10 @@ public class EstateResponse {
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // only filled in for the owning seller
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long viewCount;
     
     @Data
     @Builder
@@ -0,0 +1,28 @@
+package com.realestate.realestate.dto.estate;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Update timestamps of everything an EstateResponse is built from, read with
+ * one primary key lookup to answer conditional requests.
+ */
+@Getter
+@AllArgsConstructor
+public class EstateVersion {
+    private final Long id;
+    private final LocalDateTime estateUpdatedAt;
+    private final LocalDateTime sellerUpdatedAt;
+    private final LocalDateTime userUpdatedAt;
+
+    public LocalDateTime getLastModified() {
+        return Stream.of(estateUpdatedAt, sellerUpdatedAt, userUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+}
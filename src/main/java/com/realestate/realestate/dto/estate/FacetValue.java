@@ -0,0 +1,16 @@
+package com.realestate.realestate.dto.estate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetValue {
+    private String value;
+    private String label;
+    private long count;
+}
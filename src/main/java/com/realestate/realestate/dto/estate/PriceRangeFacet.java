@@ -0,0 +1,16 @@
+package com.realestate.realestate.dto.estate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRangeFacet {
+    private Double minPrice;
+    private Double maxPrice;
+    private long count;
+}
@@ -0,0 +1,23 @@
+package com.realestate.realestate.dto.estate;
+
+import com.realestate.realestate.enums.EstateType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceStatsResponse {
+    private String city;
+    private Long categoryId;
+    private EstateType type;
+    private long count;
+    private Double meanPrice;
+    private Double p10Price;
+    private Double medianPrice;
+    private Double p90Price;
+}
@@ -0,0 +1,37 @@
+package com.realestate.realestate.dto.savedsearch;
+
+import java.math.BigDecimal;
+
+import com.realestate.realestate.enums.EstateType;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateSavedSearchRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name;
+
+    @Size(max = 100, message = "City must not exceed 100 characters")
+    private String city;
+
+    private EstateType type;
+
+    @DecimalMin(value = "0.0", message = "Minimum price must not be negative")
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0.0", message = "Maximum price must not be negative")
+    private BigDecimal maxPrice;
+
+    private Long categoryId;
+}
@@ -0,0 +1,25 @@
+package com.realestate.realestate.dto.savedsearch;
+
+import java.time.LocalDateTime;
+
+import com.realestate.realestate.enums.EstateType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchResponse {
+    private Long id;
+    private String name;
+    private String city;
+    private EstateType type;
+    private Double minPrice;
+    private Double maxPrice;
+    private Long categoryId;
+    private LocalDateTime createdAt;
+}
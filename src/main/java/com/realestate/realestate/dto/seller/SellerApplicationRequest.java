@@ -1,6 +1,7 @@
 package com.realestate.realestate.dto.seller;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,7 @@ public class SellerApplicationRequest {
     
     @NotBlank(message = "City is required")
     @Size(min = 2, max = 100, message = "City must be between 2 and 100 characters")
+    @Pattern(regexp = "(?s).*[\\p{L}\\p{N}].*", message = "City must contain letters or numbers")
     private String city;
     
     @NotBlank(message = "Address is required")
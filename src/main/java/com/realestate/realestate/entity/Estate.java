@@ -3,9 +3,11 @@ package com.realestate.realestate.entity;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.realestate.realestate.enums.EstateStatus;
 import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.util.TextFolding;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -21,7 +23,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Estate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "estates_seq")
+    @SequenceGenerator(name = "estates_seq", sequenceName = "estates_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -49,14 +52,32 @@ public class Estate {
     @Column(nullable = false)
     private String city;
 
+    // folded city that the city filters compare against
+    @Column(name = "city_key", nullable = false)
+    private String cityKey;
+
     @Column(nullable = false)
     private String address;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    // typed copies of the matching characteristics, see EstateAttributes
+    private Integer bedrooms;
+
+    private Integer bathrooms;
+
+    private Double area;
+
     @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private EstateStatus status = EstateStatus.WAITING_FOR_APPROVAL;
 
+    @Column(name = "main_image_url")
+    private String mainImageUrl;
+
     @OneToMany(mappedBy = "estate", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<EstateImage> images = new ArrayList<>();
@@ -77,4 +98,11 @@ public class Estate {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // a blank city folds to null, and city_key is NOT NULL
+    @PrePersist
+    @PreUpdate
+    protected void foldCity() {
+        cityKey = Objects.requireNonNullElse(TextFolding.fold(city), "");
+    }
 }
@@ -13,7 +13,8 @@ import lombok.*;
 public class EstateCharacteristic {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "estate_characteristics_seq")
+    @SequenceGenerator(name = "estate_characteristics_seq", sequenceName = "estate_characteristics_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -13,7 +13,8 @@ import lombok.*;
 public class EstateImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "estate_images_seq")
+    @SequenceGenerator(name = "estate_images_seq", sequenceName = "estate_images_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
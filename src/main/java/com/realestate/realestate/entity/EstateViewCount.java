@@ -0,0 +1,33 @@
+package com.realestate.realestate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Detail page views of one estate, kept apart from {@code estates} so counting
+ * never locks or versions the estate row. Written in batches by
+ * EstateViewService.
+ */
+@Entity
+@Table(name = "estate_view_counts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstateViewCount {
+
+    @Id
+    @Column(name = "estate_id")
+    private Long estateId;
+
+    @Column(nullable = false)
+    private long views;
+}
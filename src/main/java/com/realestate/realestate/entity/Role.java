@@ -3,6 +3,10 @@ package com.realestate.realestate.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.realestate.realestate.enums.RoleName;
 import jakarta.persistence.*;
@@ -17,6 +21,9 @@ import lombok.*;
 @Builder
 @EqualsAndHashCode(exclude = "users")
 @ToString(exclude = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Immutable
 public class Role {
 
     @Id
@@ -0,0 +1,52 @@
+package com.realestate.realestate.entity;
+
+import java.time.LocalDateTime;
+
+import com.realestate.realestate.enums.EstateType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * A user's search filters (the ones the public search takes), kept to alert
+ * them when a matching estate is approved. A null filter accepts any value.
+ */
+@Entity
+@Table(name = "saved_searches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_searches_seq")
+    @SequenceGenerator(name = "saved_searches_seq", sequenceName = "saved_searches_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String city;
+
+    @Enumerated(EnumType.STRING)
+    private EstateType type;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "min_price")
+    private Double minPrice;
+
+    @Column(name = "max_price")
+    private Double maxPrice;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
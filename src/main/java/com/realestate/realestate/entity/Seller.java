@@ -3,10 +3,14 @@ package com.realestate.realestate.entity;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.realestate.realestate.enums.SellerStatus;
+import com.realestate.realestate.util.TextFolding;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,6 +23,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Builder
 @EqualsAndHashCode(exclude = {"user", "estates", "appointments"})
 @ToString(exclude = {"user", "estates", "appointments"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Seller {
 
     @Id
@@ -32,6 +38,10 @@ public class Seller {
     @Column(nullable = false)
     private String city;
 
+    // folded city that the city filters compare against
+    @Column(name = "city_key", nullable = false)
+    private String cityKey;
+
     @Column(nullable = false)
     private String address;
 
@@ -76,4 +86,11 @@ public class Seller {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // a blank city folds to null, and city_key is NOT NULL
+    @PrePersist
+    @PreUpdate
+    protected void foldCity() {
+        cityKey = Objects.requireNonNullElse(TextFolding.fold(city), "");
+    }
 }
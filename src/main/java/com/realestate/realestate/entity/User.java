@@ -3,6 +3,8 @@ package com.realestate.realestate.entity;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,8 +20,10 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(exclude = {"roles", "seller", "appointments", "sentNotifications", "receivedNotifications", "refreshTokens"})
-@ToString(exclude = {"roles", "seller", "appointments", "sentNotifications", "receivedNotifications", "refreshTokens"})
+@EqualsAndHashCode(exclude = {"roles", "appointments", "sentNotifications", "receivedNotifications", "refreshTokens"})
+@ToString(exclude = {"roles", "appointments", "sentNotifications", "receivedNotifications", "refreshTokens"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class User {
 
     @Id
@@ -62,6 +66,7 @@ public class User {
     private LocalDateTime emailVerifiedAt;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "user_roles",
         joinColumns = @JoinColumn(name = "user_id"),
@@ -70,9 +75,6 @@ public class User {
     @Builder.Default
     private Set<Role> roles = new HashSet<>();
 
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL)
-    private Seller seller;
-
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Appointment> appointments = new ArrayList<>();
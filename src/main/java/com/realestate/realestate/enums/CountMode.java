@@ -0,0 +1,23 @@
+package com.realestate.realestate.enums;
+
+import com.realestate.realestate.exception.common.BadRequestException;
+
+/**
+ * How a paged listing reports its total: {@code EXACT} runs a COUNT query,
+ * {@code ESTIMATE} fills in a cached or planner-estimated total and
+ * {@code NONE} only reports whether a next page exists.
+ */
+public enum CountMode {
+    NONE,
+    ESTIMATE,
+    EXACT;
+
+    public static CountMode from(String value) {
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new BadRequestException("Invalid count mode: " + value + ". Use none, estimate or exact");
+    }
+}
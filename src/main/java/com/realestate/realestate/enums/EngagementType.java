@@ -0,0 +1,18 @@
+package com.realestate.realestate.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Interactions that make an estate trend, weighted by how much intent they
+ * show.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EngagementType {
+    VIEW(1),
+    FAVORITE(5),
+    APPOINTMENT(10);
+
+    private final int weight;
+}
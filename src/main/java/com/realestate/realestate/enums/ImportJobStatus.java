@@ -0,0 +1,8 @@
+package com.realestate.realestate.enums;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
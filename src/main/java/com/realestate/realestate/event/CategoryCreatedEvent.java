@@ -0,0 +1,13 @@
+package com.realestate.realestate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by CategoryService after a category is created.
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryCreatedEvent {
+    private final Long categoryId;
+}
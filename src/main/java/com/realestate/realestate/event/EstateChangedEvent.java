@@ -0,0 +1,40 @@
+package com.realestate.realestate.event;
+
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.search.IndexedEstate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by EstateService whenever an estate is created, changes status or
+ * is deleted. A null status means the estate no longer exists.
+ */
+@Getter
+@AllArgsConstructor
+public class EstateChangedEvent {
+    private final IndexedEstate estate;
+    private final EstateStatus previousStatus;
+    private final EstateStatus status;
+
+    public static EstateChangedEvent of(Estate estate, EstateStatus previousStatus) {
+        return new EstateChangedEvent(IndexedEstate.of(estate), previousStatus, estate.getStatus());
+    }
+
+    public static EstateChangedEvent deleted(Estate estate) {
+        return new EstateChangedEvent(IndexedEstate.of(estate), estate.getStatus(), null);
+    }
+
+    public Long getEstateId() {
+        return estate.getId();
+    }
+
+    public boolean wasApproved() {
+        return previousStatus == EstateStatus.APPROVED;
+    }
+
+    public boolean isApproved() {
+        return status == EstateStatus.APPROVED;
+    }
+}
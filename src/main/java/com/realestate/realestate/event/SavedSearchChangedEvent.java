@@ -0,0 +1,17 @@
+package com.realestate.realestate.event;
+
+import com.realestate.realestate.search.IndexedSavedSearch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by SavedSearchService when a saved search is created or deleted.
+ * A null search means it was deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class SavedSearchChangedEvent {
+    private final Long savedSearchId;
+    private final IndexedSavedSearch search;
+}
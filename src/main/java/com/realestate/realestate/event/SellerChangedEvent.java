@@ -0,0 +1,14 @@
+package com.realestate.realestate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by SellerService whenever seller profile data shown on estate
+ * details changes (re-application, verification).
+ */
+@Getter
+@AllArgsConstructor
+public class SellerChangedEvent {
+    private final Long sellerId;
+}
@@ -25,6 +25,7 @@ import com.realestate.realestate.exception.common.ConflictException;
 import com.realestate.realestate.exception.common.DuplicateResourceException;
 import com.realestate.realestate.exception.common.ForbiddenException;
 import com.realestate.realestate.exception.common.ResourceNotFoundException;
+import com.realestate.realestate.exception.common.ServiceUnavailableException;
 import com.realestate.realestate.exception.estate.InvalidEstateStatusException;
 import com.realestate.realestate.exception.estate.InvalidEstateTypeException;
 import com.realestate.realestate.exception.seller.InvalidSellerStatusException;
@@ -322,6 +323,22 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(error, HttpStatus.CONFLICT);
         }
 
+        @ExceptionHandler(ServiceUnavailableException.class)
+        public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+                        ServiceUnavailableException ex,
+                        WebRequest request) {
+                ErrorResponse error = ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                                .message(ex.getMessage())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header("Retry-After", "5")
+                                .body(error);
+        }
+
         @ExceptionHandler(InvalidAppointmentStatusException.class)
         public ResponseEntity<ErrorResponse> handleInvalidAppointmentStatus(
                         InvalidAppointmentStatusException ex,
@@ -0,0 +1,7 @@
+package com.realestate.realestate.exception.common;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
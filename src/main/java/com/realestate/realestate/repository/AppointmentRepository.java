@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,13 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     Page<Appointment> findBySellerAndStatusOrderByAppointmentDateAsc(Seller seller, AppointmentStatus status,
             Pageable pageable);
 
+    Slice<Appointment> findSliceByClientOrderByAppointmentDateDesc(User client, Pageable pageable);
+
+    Slice<Appointment> findSliceBySellerOrderByAppointmentDateDesc(Seller seller, Pageable pageable);
+
+    Slice<Appointment> findSliceBySellerAndStatusOrderByAppointmentDateAsc(Seller seller, AppointmentStatus status,
+            Pageable pageable);
+
     @Query("SELECT COUNT(a) > 0 FROM Appointment a WHERE " +
             "a.seller = :seller AND " +
             "a.appointmentDate = :appointmentDate AND " +
@@ -1,13 +1,24 @@
 package com.realestate.realestate.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.realestate.realestate.entity.Category;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByName(String name);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Category> findAll();
 }
@@ -1,37 +1,224 @@
 package com.realestate.realestate.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.dto.estate.EstateVersion;
 import com.realestate.realestate.entity.Estate;
 import com.realestate.realestate.entity.Seller;
 import com.realestate.realestate.enums.EstateStatus;
 import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.search.CityCount;
+import com.realestate.realestate.search.IndexedCharacteristic;
+import com.realestate.realestate.search.IndexedEstate;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface EstateRepository extends JpaRepository<Estate, Long> {
-        Page<Estate> findByStatus(EstateStatus status, Pageable pageable);
 
-        @Query("SELECT e FROM Estate e WHERE " +
-                        "(:city IS NULL OR e.city = :city) AND " +
+        String SEARCH_FILTER = "(:city IS NULL OR e.cityKey = :city) AND " +
                         "(:type IS NULL OR e.type = :type) AND " +
                         "(:minPrice IS NULL OR e.price >= :minPrice) AND " +
                         "(:maxPrice IS NULL OR e.price <= :maxPrice) AND " +
                         "(:categoryId IS NULL OR e.category.id = :categoryId) AND " +
-                        "e.status = 'APPROVED'")
-        Page<Estate> searchEstates(
+                        "e.status = 'APPROVED'";
+
+        String ATTRIBUTE_FILTER = "(:minBedrooms IS NULL OR e.bedrooms >= :minBedrooms) AND " +
+                        "(:minBathrooms IS NULL OR e.bathrooms >= :minBathrooms) AND " +
+                        "(:minArea IS NULL OR e.area >= :minArea) AND " +
+                        "(:maxArea IS NULL OR e.area <= :maxArea)";
+
+        String BASIC_PROJECTION = "SELECT new com.realestate.realestate.dto.estate.EstateBasicResponse(" +
+                        "e.id, e.name, e.price, e.type, e.city, e.address, e.mainImageUrl, e.latitude, e.longitude, " +
+                        "e.createdAt, e.updatedAt) " +
+                        "FROM Estate e";
+
+        Page<Estate> findByStatus(EstateStatus status, Pageable pageable);
+
+        Slice<Estate> findSliceByStatus(EstateStatus status, Pageable pageable);
+
+        @Query(value = BASIC_PROJECTION + " WHERE e.status = :status",
+                        countQuery = "SELECT COUNT(e) FROM Estate e WHERE e.status = :status")
+        Page<EstateBasicResponse> findBasicByStatus(@Param("status") EstateStatus status, Pageable pageable);
+
+        @Query(BASIC_PROJECTION + " WHERE e.status = :status")
+        Slice<EstateBasicResponse> findBasicSliceByStatus(@Param("status") EstateStatus status, Pageable pageable);
+
+        @Query(value = BASIC_PROJECTION + " WHERE " + SEARCH_FILTER + " AND " + ATTRIBUTE_FILTER,
+                        countQuery = "SELECT COUNT(e) FROM Estate e WHERE " + SEARCH_FILTER + " AND " +
+                                        ATTRIBUTE_FILTER)
+        Page<EstateBasicResponse> searchEstates(
+                        @Param("city") String city,
+                        @Param("type") EstateType type,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("categoryId") Long categoryId,
+                        @Param("minBedrooms") Integer minBedrooms,
+                        @Param("minBathrooms") Integer minBathrooms,
+                        @Param("minArea") Double minArea,
+                        @Param("maxArea") Double maxArea,
+                        Pageable pageable);
+
+        @Query(BASIC_PROJECTION + " WHERE " + SEARCH_FILTER + " AND " + ATTRIBUTE_FILTER)
+        Slice<EstateBasicResponse> searchEstatesSlice(
+                        @Param("city") String city,
+                        @Param("type") EstateType type,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("categoryId") Long categoryId,
+                        @Param("minBedrooms") Integer minBedrooms,
+                        @Param("minBathrooms") Integer minBathrooms,
+                        @Param("minArea") Double minArea,
+                        @Param("maxArea") Double maxArea,
+                        Pageable pageable);
+
+        @Query(BASIC_PROJECTION + " WHERE " + SEARCH_FILTER + " AND " + ATTRIBUTE_FILTER + " AND " +
+                        "(:afterId IS NULL OR e.createdAt < :afterCreatedAt OR " +
+                        "(e.createdAt = :afterCreatedAt AND e.id < :afterId)) " +
+                        "ORDER BY e.createdAt DESC, e.id DESC")
+        Slice<EstateBasicResponse> scrollByCreatedAtDesc(
+                        @Param("city") String city,
+                        @Param("type") EstateType type,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("categoryId") Long categoryId,
+                        @Param("minBedrooms") Integer minBedrooms,
+                        @Param("minBathrooms") Integer minBathrooms,
+                        @Param("minArea") Double minArea,
+                        @Param("maxArea") Double maxArea,
+                        @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                        @Param("afterId") Long afterId,
+                        Pageable pageable);
+
+        @Query(BASIC_PROJECTION + " WHERE " + SEARCH_FILTER + " AND " + ATTRIBUTE_FILTER + " AND " +
+                        "(:afterId IS NULL OR e.createdAt > :afterCreatedAt OR " +
+                        "(e.createdAt = :afterCreatedAt AND e.id > :afterId)) " +
+                        "ORDER BY e.createdAt ASC, e.id ASC")
+        Slice<EstateBasicResponse> scrollByCreatedAtAsc(
+                        @Param("city") String city,
+                        @Param("type") EstateType type,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("categoryId") Long categoryId,
+                        @Param("minBedrooms") Integer minBedrooms,
+                        @Param("minBathrooms") Integer minBathrooms,
+                        @Param("minArea") Double minArea,
+                        @Param("maxArea") Double maxArea,
+                        @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                        @Param("afterId") Long afterId,
+                        Pageable pageable);
+
+        @Query(BASIC_PROJECTION + " WHERE " + SEARCH_FILTER + " AND " + ATTRIBUTE_FILTER + " AND " +
+                        "(:afterId IS NULL OR e.price < :afterPrice OR " +
+                        "(e.price = :afterPrice AND e.id < :afterId)) " +
+                        "ORDER BY e.price DESC, e.id DESC")
+        Slice<EstateBasicResponse> scrollByPriceDesc(
+                        @Param("city") String city,
+                        @Param("type") EstateType type,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("categoryId") Long categoryId,
+                        @Param("minBedrooms") Integer minBedrooms,
+                        @Param("minBathrooms") Integer minBathrooms,
+                        @Param("minArea") Double minArea,
+                        @Param("maxArea") Double maxArea,
+                        @Param("afterPrice") Double afterPrice,
+                        @Param("afterId") Long afterId,
+                        Pageable pageable);
+
+        @Query(BASIC_PROJECTION + " WHERE " + SEARCH_FILTER + " AND " + ATTRIBUTE_FILTER + " AND " +
+                        "(:afterId IS NULL OR e.price > :afterPrice OR " +
+                        "(e.price = :afterPrice AND e.id > :afterId)) " +
+                        "ORDER BY e.price ASC, e.id ASC")
+        Slice<EstateBasicResponse> scrollByPriceAsc(
                         @Param("city") String city,
                         @Param("type") EstateType type,
                         @Param("minPrice") BigDecimal minPrice,
                         @Param("maxPrice") BigDecimal maxPrice,
                         @Param("categoryId") Long categoryId,
+                        @Param("minBedrooms") Integer minBedrooms,
+                        @Param("minBathrooms") Integer minBathrooms,
+                        @Param("minArea") Double minArea,
+                        @Param("maxArea") Double maxArea,
+                        @Param("afterPrice") Double afterPrice,
+                        @Param("afterId") Long afterId,
                         Pageable pageable);
 
+        @Query(BASIC_PROJECTION + " WHERE e.id IN :ids")
+        List<EstateBasicResponse> findBasicByIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query(BASIC_PROJECTION + " WHERE e.id IN :ids AND e.status = 'APPROVED'")
+        List<EstateBasicResponse> findApprovedBasicByIdIn(@Param("ids") Collection<Long> ids);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+        @Query("SELECT new com.realestate.realestate.search.IndexedEstate(" +
+                        "e.id, e.city, e.type, e.category.id, e.price, e.createdAt, e.bedrooms, e.bathrooms, " +
+                        "e.area) " +
+                        "FROM Estate e WHERE e.status = 'APPROVED'")
+        Stream<IndexedEstate> streamApprovedForIndex();
+
+        @Query("SELECT new com.realestate.realestate.search.CityCount(e.city, COUNT(e)) " +
+                        "FROM Estate e WHERE e.status = 'APPROVED' GROUP BY e.city")
+        List<CityCount> countApprovedByCity();
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+        @Query("SELECT new com.realestate.realestate.search.IndexedCharacteristic(c.estate.id, c.name, c.value) " +
+                        "FROM EstateCharacteristic c WHERE c.estate.status = 'APPROVED'")
+        Stream<IndexedCharacteristic> streamApprovedCharacteristicsForIndex();
+
+        @Query("SELECT new com.realestate.realestate.search.IndexedCharacteristic(c.estate.id, c.name, c.value) " +
+                        "FROM EstateCharacteristic c WHERE c.estate.id = :estateId")
+        List<IndexedCharacteristic> findCharacteristicsForIndex(@Param("estateId") Long estateId);
+
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+        @Query("SELECT e FROM Estate e JOIN FETCH e.category JOIN FETCH e.seller s JOIN FETCH s.user " +
+                        "WHERE e.status = 'APPROVED' ORDER BY e.id")
+        Stream<Estate> streamApprovedForExport();
+
+        @Query("SELECT e.id FROM Estate e WHERE e.status = 'APPROVED' AND e.id > :afterId ORDER BY e.id")
+        List<Long> findApprovedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+        @Query("SELECT DISTINCT e FROM Estate e JOIN FETCH e.category LEFT JOIN FETCH e.characteristics " +
+                        "WHERE e.id IN :ids")
+        List<Estate> findWithCharacteristicsByIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query("SELECT new com.realestate.realestate.dto.estate.EstateVersion(" +
+                        "e.id, e.updatedAt, s.updatedAt, u.updatedAt) " +
+                        "FROM Estate e JOIN e.seller s JOIN s.user u WHERE e.id = :id")
+        Optional<EstateVersion> findVersionById(@Param("id") Long id);
+
+        @Query("SELECT e FROM Estate e JOIN FETCH e.category JOIN FETCH e.seller s JOIN FETCH s.user " +
+                        "WHERE e.id IN :ids")
+        List<Estate> findDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query("SELECT DISTINCT e FROM Estate e LEFT JOIN FETCH e.images WHERE e IN :estates")
+        List<Estate> fetchImages(@Param("estates") Collection<Estate> estates);
+
+        @Query("SELECT DISTINCT e FROM Estate e LEFT JOIN FETCH e.characteristics WHERE e IN :estates")
+        List<Estate> fetchCharacteristics(@Param("estates") Collection<Estate> estates);
+
         Page<Estate> findBySeller(Seller seller, Pageable pageable);
+
+        Slice<Estate> findSliceBySeller(Seller seller, Pageable pageable);
+
+        @Query("SELECT e.id FROM Estate e WHERE e.seller.id = :sellerId")
+        List<Long> findIdsBySellerId(@Param("sellerId") Long sellerId);
 }
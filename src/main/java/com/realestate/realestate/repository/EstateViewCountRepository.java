@@ -0,0 +1,10 @@
+package com.realestate.realestate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.realestate.realestate.entity.EstateViewCount;
+
+@Repository
+public interface EstateViewCountRepository extends JpaRepository<EstateViewCount, Long> {
+}
@@ -1,15 +1,23 @@
 package com.realestate.realestate.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.realestate.realestate.entity.Estate;
 import com.realestate.realestate.entity.Favorite;
 import com.realestate.realestate.entity.User;
+import com.realestate.realestate.search.FavoritePair;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
@@ -20,6 +28,8 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
     Page<Favorite> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
+    Slice<Favorite> findSliceByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
     long countByUser(User user);
 
     long countByEstate(Estate estate);
@@ -27,4 +37,9 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     void deleteByUser(User user);
 
     void deleteByEstate(Estate estate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT new com.realestate.realestate.search.FavoritePair(f.user.id, f.estate.id) " +
+            "FROM Favorite f WHERE f.estate.status = 'APPROVED' ORDER BY f.user.id")
+    Stream<FavoritePair> streamApprovedByUser();
 }
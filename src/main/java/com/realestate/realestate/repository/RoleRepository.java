@@ -2,16 +2,22 @@ package com.realestate.realestate.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.realestate.realestate.entity.Role;
 import com.realestate.realestate.enums.RoleName;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(RoleName name);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(RoleName name);
 }
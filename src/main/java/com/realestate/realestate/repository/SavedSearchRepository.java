@@ -0,0 +1,32 @@
+package com.realestate.realestate.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import com.realestate.realestate.entity.SavedSearch;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.search.IndexedSavedSearch;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByUserOrderByCreatedAtDesc(User user);
+
+    Optional<SavedSearch> findByIdAndUser(Long id, User user);
+
+    long countByUser(User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.realestate.realestate.search.IndexedSavedSearch(" +
+            "s.id, s.user.id, s.city, s.type, s.categoryId, s.minPrice, s.maxPrice) FROM SavedSearch s")
+    Stream<IndexedSavedSearch> streamAllForIndex();
+}
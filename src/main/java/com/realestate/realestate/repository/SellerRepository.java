@@ -3,15 +3,20 @@ package com.realestate.realestate.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.realestate.realestate.entity.Seller;
 import com.realestate.realestate.entity.User;
 import com.realestate.realestate.enums.SellerStatus;
 
+import jakarta.persistence.QueryHint;
+
 public interface SellerRepository extends JpaRepository<Seller, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Seller> findByUser(User user);
     
     boolean existsByUser(User user);
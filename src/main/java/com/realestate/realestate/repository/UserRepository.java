@@ -2,16 +2,21 @@ package com.realestate.realestate.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.realestate.realestate.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     
     boolean existsByEmail(String email);
@@ -0,0 +1,26 @@
+package com.realestate.realestate.search;
+
+/**
+ * Range filters on the typed estate attributes. Estates without a value for
+ * a constrained attribute never match it.
+ */
+public record AttributeFilter(Integer minBedrooms, Integer minBathrooms, Double minArea, Double maxArea) {
+
+    public static final AttributeFilter NONE = new AttributeFilter(null, null, null, null);
+
+    public boolean isEmpty() {
+        return minBedrooms == null && minBathrooms == null && minArea == null && maxArea == null;
+    }
+
+    public boolean matches(IndexedEstate estate) {
+        return atLeast(estate.getBedrooms(), minBedrooms)
+                && atLeast(estate.getBathrooms(), minBathrooms)
+                && (minArea == null && maxArea == null || estate.getArea() != null
+                        && (minArea == null || estate.getArea() >= minArea)
+                        && (maxArea == null || estate.getArea() <= maxArea));
+    }
+
+    private static boolean atLeast(Integer value, Integer min) {
+        return min == null || value != null && value >= min;
+    }
+}
@@ -0,0 +1,11 @@
+package com.realestate.realestate.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CityCount {
+    private final String city;
+    private final long estates;
+}
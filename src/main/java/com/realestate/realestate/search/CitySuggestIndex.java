@@ -0,0 +1,168 @@
+package com.realestate.realestate.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import com.realestate.realestate.dto.estate.CitySuggestion;
+import com.realestate.realestate.util.TextFolding;
+
+/**
+ * Prefix suggestions over the cities of APPROVED estates. A trie over the
+ * folded city keys in which every node keeps its best completions (most
+ * estates first), so a lookup walks down the prefix and reads one array
+ * without visiting the subtree. Built in one pass over the sorted keys and
+ * swapped in whole.
+ */
+@Component
+public class CitySuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private volatile Trie trie;
+
+    public boolean isReady() {
+        return trie != null;
+    }
+
+    public int size() {
+        Trie current = trie;
+        return current == null ? 0 : current.names.length;
+    }
+
+    /**
+     * Spellings of the same city are merged under their folded key and shown
+     * as the most common spelling. Returns the number of distinct cities.
+     */
+    public int rebuild(Collection<CityCount> counts) {
+        Map<String, List<CityCount>> byKey = new TreeMap<>();
+        for (CityCount count : counts) {
+            String key = TextFolding.fold(count.getCity());
+            if (key != null) {
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(count);
+            }
+        }
+
+        int size = byKey.size();
+        String[] keys = new String[size];
+        String[] names = new String[size];
+        long[] estates = new long[size];
+        int i = 0;
+        for (Map.Entry<String, List<CityCount>> entry : byKey.entrySet()) {
+            keys[i] = entry.getKey();
+            names[i] = entry.getValue().stream()
+                    .max(Comparator.comparingLong(CityCount::getEstates)
+                            .thenComparing(CityCount::getCity, Comparator.reverseOrder()))
+                    .orElseThrow()
+                    .getCity();
+            estates[i] = entry.getValue().stream().mapToLong(CityCount::getEstates).sum();
+            i++;
+        }
+
+        trie = new Trie(new Builder(keys, estates).node(0, size, 0), names, estates);
+        return size;
+    }
+
+    /**
+     * At most {@code limit} cities whose folded name starts with the folded
+     * {@code prefix}, most estates first; a blank prefix suggests the largest
+     * cities.
+     */
+    public Optional<List<CitySuggestion>> suggest(String prefix, int limit) {
+        Trie current = trie;
+        if (current == null) {
+            return Optional.empty();
+        }
+        String key = TextFolding.fold(prefix);
+        Node node = current.root;
+        if (key != null) {
+            for (int depth = 0; depth < key.length() && node != null; depth++) {
+                int child = Arrays.binarySearch(node.labels, key.charAt(depth));
+                node = child < 0 ? null : node.children[child];
+            }
+        }
+        if (node == null) {
+            return Optional.of(List.of());
+        }
+        int count = Math.min(limit, node.best.length);
+        List<CitySuggestion> suggestions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int city = node.best[i];
+            suggestions.add(new CitySuggestion(current.names[city], current.estates[city]));
+        }
+        return Optional.of(suggestions);
+    }
+
+    private record Trie(Node root, String[] names, long[] estates) {
+    }
+
+    /**
+     * {@code best} holds the indexes of the best completions below this node,
+     * best first.
+     */
+    private record Node(char[] labels, Node[] children, int[] best) {
+    }
+
+    private static final class Builder {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String[] keys;
+        private final long[] estates;
+        private final Comparator<Integer> bestFirst;
+
+        Builder(String[] keys, long[] estates) {
+            this.keys = keys;
+            this.estates = estates;
+            this.bestFirst = Comparator.<Integer>comparingLong(city -> estates[city]).reversed()
+                    .thenComparing(city -> keys[city]);
+        }
+
+        // keys[from..to) are sorted, distinct and share their first depth chars
+        Node node(int from, int to, int depth) {
+            List<Integer> candidates = new ArrayList<>();
+            int i = from;
+            if (i < to && keys[i].length() == depth) {
+                candidates.add(i++);
+            }
+
+            List<Character> labels = new ArrayList<>();
+            List<Node> children = new ArrayList<>();
+            while (i < to) {
+                char label = keys[i].charAt(depth);
+                int end = i;
+                while (end < to && keys[end].charAt(depth) == label) {
+                    end++;
+                }
+                Node child = node(i, end, depth + 1);
+                labels.add(label);
+                children.add(child);
+                for (int city : child.best()) {
+                    candidates.add(city);
+                }
+                i = end;
+            }
+
+            candidates.sort(bestFirst);
+            int[] best = candidates.stream()
+                    .limit(MAX_SUGGESTIONS)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            if (labels.isEmpty()) {
+                return new Node(NO_LABELS, NO_CHILDREN, best);
+            }
+            char[] labelArray = new char[labels.size()];
+            for (int c = 0; c < labelArray.length; c++) {
+                labelArray[c] = labels.get(c);
+            }
+            return new Node(labelArray, children.toArray(NO_CHILDREN), best);
+        }
+    }
+}
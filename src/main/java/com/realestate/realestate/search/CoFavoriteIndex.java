@@ -0,0 +1,213 @@
+package com.realestate.realestate.search;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * "Users who saved this also saved" neighbours, computed in batch from the
+ * favorites of APPROVED estates. Estate ids are mapped to dense ints so the
+ * user baskets and the item-to-user lists are plain int arrays, and each item
+ * counts its co-occurrences in a reusable int accumulator instead of a map.
+ * Scores are cosine-normalised so very popular estates do not dominate.
+ */
+@Component
+public class CoFavoriteIndex {
+
+    static final int NEIGHBOURS_PER_ESTATE = 20;
+
+    // larger baskets are bulk or bot activity and would add pairs quadratically
+    static final int MAX_BASKET = 500;
+
+    private static final long[] NONE = new long[0];
+
+    private volatile Neighbours neighbours;
+
+    public boolean isReady() {
+        return neighbours != null;
+    }
+
+    public int size() {
+        Neighbours current = neighbours;
+        return current == null ? 0 : current.estateIds.length;
+    }
+
+    /**
+     * Expects the pairs ordered by user. Returns the number of estates with at
+     * least one neighbour; the previous result is served until this finishes.
+     */
+    public int rebuild(Stream<FavoritePair> favorites) {
+        Baskets baskets = Baskets.collect(favorites.iterator());
+        Neighbours built = baskets.neighbours();
+        neighbours = built;
+        return built.withNeighbours;
+    }
+
+    /**
+     * Ids of at most {@code limit} estates saved together with {@code estateId},
+     * best first; empty when nobody saved it alongside anything else.
+     */
+    public List<Long> neighboursOf(Long estateId, int limit) {
+        Neighbours current = neighbours;
+        if (current == null) {
+            return List.of();
+        }
+        int item = Arrays.binarySearch(current.estateIds, estateId);
+        if (item < 0) {
+            return List.of();
+        }
+        long[] ids = current.neighbourIds[item];
+        return Arrays.stream(ids, 0, Math.min(limit, ids.length)).boxed().toList();
+    }
+
+    private record Neighbours(long[] estateIds, long[][] neighbourIds, int withNeighbours) {
+    }
+
+    /**
+     * Baskets in compressed rows: the items of basket {@code b} are
+     * {@code items[basketStart[b] .. basketStart[b + 1])}.
+     */
+    private static final class Baskets {
+        private final long[] estateIds;
+        private final int[] basketStart;
+        private final int[] items;
+
+        private Baskets(long[] estateIds, int[] basketStart, int[] items) {
+            this.estateIds = estateIds;
+            this.basketStart = basketStart;
+            this.items = items;
+        }
+
+        static Baskets collect(Iterator<FavoritePair> favorites) {
+            long[] pairs = new long[1024];
+            int[] starts = new int[256];
+            int size = 0;
+            int baskets = 0;
+            int basketFrom = 0;
+            Long currentUser = null;
+
+            while (favorites.hasNext()) {
+                FavoritePair favorite = favorites.next();
+                if (!favorite.getUserId().equals(currentUser)) {
+                    size = closeBasket(basketFrom, size);
+                    if (size > basketFrom) {
+                        if (baskets + 1 == starts.length) {
+                            starts = Arrays.copyOf(starts, starts.length * 2);
+                        }
+                        starts[baskets++] = basketFrom;
+                    }
+                    basketFrom = size;
+                    currentUser = favorite.getUserId();
+                }
+                if (size == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, pairs.length * 2);
+                }
+                pairs[size++] = favorite.getEstateId();
+            }
+            size = closeBasket(basketFrom, size);
+            if (size > basketFrom) {
+                if (baskets + 1 == starts.length) {
+                    starts = Arrays.copyOf(starts, starts.length * 2);
+                }
+                starts[baskets++] = basketFrom;
+            }
+            starts[baskets] = size;
+
+            long[] estateIds = distinctSorted(Arrays.copyOf(pairs, size));
+            int[] items = new int[size];
+            for (int i = 0; i < size; i++) {
+                items[i] = Arrays.binarySearch(estateIds, pairs[i]);
+            }
+            return new Baskets(estateIds, Arrays.copyOf(starts, baskets + 1), items);
+        }
+
+        // a basket of one estate pairs with nothing, an oversized one is ignored
+        private static int closeBasket(int from, int to) {
+            int basketSize = to - from;
+            return basketSize < 2 || basketSize > MAX_BASKET ? from : to;
+        }
+
+        Neighbours neighbours() {
+            int itemCount = estateIds.length;
+            int basketCount = basketStart.length - 1;
+
+            int[] itemStart = new int[itemCount + 1];
+            for (int item : items) {
+                itemStart[item + 1]++;
+            }
+            for (int item = 0; item < itemCount; item++) {
+                itemStart[item + 1] += itemStart[item];
+            }
+            int[] itemBaskets = new int[items.length];
+            int[] fill = Arrays.copyOf(itemStart, itemCount);
+            for (int basket = 0; basket < basketCount; basket++) {
+                for (int i = basketStart[basket]; i < basketStart[basket + 1]; i++) {
+                    itemBaskets[fill[items[i]]++] = basket;
+                }
+            }
+
+            long[][] neighbourIds = new long[itemCount][];
+            // strided so every worker gets a mix of popular and rare estates
+            int workers = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), itemCount));
+            IntStream.range(0, workers).parallel().forEach(worker -> {
+                int[] counts = new int[itemCount];
+                int[] touched = new int[itemCount];
+                for (int item = worker; item < itemCount; item += workers) {
+                    neighbourIds[item] = topNeighbours(item, itemStart, itemBaskets, counts, touched);
+                }
+            });
+
+            int withNeighbours = 0;
+            for (long[] ids : neighbourIds) {
+                if (ids.length > 0) {
+                    withNeighbours++;
+                }
+            }
+            return new Neighbours(estateIds, neighbourIds, withNeighbours);
+        }
+
+        private long[] topNeighbours(int item, int[] itemStart, int[] itemBaskets, int[] counts, int[] touched) {
+            int touchedCount = 0;
+            for (int b = itemStart[item]; b < itemStart[item + 1]; b++) {
+                int basket = itemBaskets[b];
+                for (int i = basketStart[basket]; i < basketStart[basket + 1]; i++) {
+                    int other = items[i];
+                    if (other != item && counts[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                }
+            }
+            if (touchedCount == 0) {
+                return NONE;
+            }
+
+            TopK top = new TopK(NEIGHBOURS_PER_ESTATE);
+            double degree = itemStart[item + 1] - itemStart[item];
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                double otherDegree = itemStart[other + 1] - itemStart[other];
+                top.offer(counts[other] / Math.sqrt(degree * otherDegree), estateIds[other]);
+                counts[other] = 0;
+            }
+            return top.drainBestFirst().stream().mapToLong(Long::longValue).toArray();
+        }
+
+        private static long[] distinctSorted(long[] ids) {
+            if (ids.length == 0) {
+                return ids;
+            }
+            Arrays.sort(ids);
+            int distinct = 1;
+            for (int i = 1; i < ids.length; i++) {
+                if (ids[i] != ids[distinct - 1]) {
+                    ids[distinct++] = ids[i];
+                }
+            }
+            return Arrays.copyOf(ids, distinct);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.realestate.realestate.search;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.realestate.realestate.enums.EngagementType;
+
+/**
+ * Weighted engagement per estate in hourly buckets covering the last week.
+ * Recording only touches a {@link LongAdder} in the current bucket, so
+ * concurrent requests on a popular estate do not contend; buckets that fall
+ * out of the window are replaced in place the next time their slot comes
+ * round. Reading sums the buckets with an exponential decay by age.
+ */
+@Component
+public class EngagementCounters {
+
+    static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+    static final int WINDOW_BUCKETS = 7 * 24;
+
+    // an interaction two days old counts half as much as one from this hour
+    private static final double HALF_LIFE_BUCKETS = 48;
+
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(WINDOW_BUCKETS);
+
+    public void record(Long estateId, EngagementType type) {
+        record(estateId, type, System.currentTimeMillis());
+    }
+
+    void record(Long estateId, EngagementType type, long nowMillis) {
+        Map<Long, LongAdder> counters = bucketAt(nowMillis / BUCKET_MILLIS).counters;
+        LongAdder counter = counters.get(estateId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(estateId, id -> new LongAdder());
+        }
+        counter.add(type.getWeight());
+    }
+
+    /**
+     * Ids of the {@code limit} estates with the highest decayed engagement,
+     * best first.
+     */
+    public List<Long> top(int limit) {
+        return top(limit, System.currentTimeMillis());
+    }
+
+    List<Long> top(int limit, long nowMillis) {
+        long currentBucket = nowMillis / BUCKET_MILLIS;
+        Map<Long, Double> scores = new HashMap<>();
+        for (int slot = 0; slot < WINDOW_BUCKETS; slot++) {
+            Bucket bucket = buckets.get(slot);
+            long age = bucket == null ? -1 : currentBucket - bucket.index;
+            if (age < 0 || age >= WINDOW_BUCKETS) {
+                continue;
+            }
+            double decay = Math.pow(0.5, age / HALF_LIFE_BUCKETS);
+            bucket.counters.forEach((estateId, counter) ->
+                    scores.merge(estateId, counter.sum() * decay, Double::sum));
+        }
+
+        TopK top = new TopK(limit);
+        scores.forEach((estateId, score) -> top.offer(score, estateId));
+        return top.drainBestFirst();
+    }
+
+    private Bucket bucketAt(long index) {
+        int slot = (int) (index % WINDOW_BUCKETS);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.index >= index) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(index);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final long index;
+        private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+        private Bucket(long index) {
+            this.index = index;
+        }
+    }
+}
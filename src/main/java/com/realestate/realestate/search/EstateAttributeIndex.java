@@ -0,0 +1,324 @@
+package com.realestate.realestate.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.realestate.realestate.enums.EstateType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index over APPROVED estates. Keeps a compressed bitmap of estate
+ * ids per folded city, type and category plus id arrays sorted by price, creation
+ * date and the typed attributes, so a search is a bitmap intersection
+ * followed by an ordered walk that yields only the ids of the requested page.
+ */
+@Component
+@Slf4j
+public class EstateAttributeIndex {
+
+    private final RebuildableState<State> states = new RebuildableState<>(new State());
+
+    public boolean isReady() {
+        return states.isReady();
+    }
+
+    public int size() {
+        return states.read(current -> current.docs.size());
+    }
+
+    public int rebuild(Stream<IndexedEstate> estates) {
+        return states.rebuild(() -> State.build(estates), fresh -> fresh.docs.size());
+    }
+
+    public void upsert(IndexedEstate estate) {
+        states.apply(current -> {
+            current.remove(toDocId(estate.getId()));
+            current.add(estate);
+        });
+    }
+
+    public void remove(Long estateId) {
+        states.apply(current -> current.remove(toDocId(estateId)));
+    }
+
+    public Optional<Page<Long>> search(
+            String city,
+            EstateType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Long categoryId,
+            AttributeFilter attributes,
+            Pageable pageable) {
+
+        if (!states.isReady() || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() != 1) {
+            return Optional.empty();
+        }
+        Sort.Order order = orders.get(0);
+        boolean byPrice = "price".equals(order.getProperty());
+        if (!byPrice && !"createdAt".equals(order.getProperty())) {
+            return Optional.empty();
+        }
+
+        return states.read(current -> {
+            RoaringBitmap filter = current.filter(city, type, categoryId,
+                    minPrice == null ? null : minPrice.doubleValue(),
+                    maxPrice == null ? null : maxPrice.doubleValue(), attributes);
+
+            List<Long> ids = byPrice
+                    ? current.byPrice.collect(filter, docId -> current.docs.get(docId).getPrice(),
+                            order.isAscending(), pageable.getOffset(), pageable.getPageSize())
+                    : current.byCreatedAt.collect(filter,
+                            docId -> createdAtKey(current.docs.get(docId).getCreatedAt()),
+                            order.isAscending(), pageable.getOffset(), pageable.getPageSize());
+
+            return Optional.of(new PageImpl<>(ids, pageable, filter.getLongCardinality()));
+        });
+    }
+
+    /**
+     * Counts matches per city, type, category and price bucket for the given
+     * filters. {@code priceEdges} are ascending bucket lower bounds; the last
+     * bucket is open-ended.
+     */
+    public Optional<FacetCounts> facets(
+            String city,
+            EstateType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Long categoryId,
+            double[] priceEdges) {
+
+        if (!states.isReady()) {
+            return Optional.empty();
+        }
+
+        Double min = minPrice == null ? null : minPrice.doubleValue();
+        Double max = maxPrice == null ? null : maxPrice.doubleValue();
+
+        return states.read(current -> {
+            long total = current.filter(city, type, categoryId, min, max).getLongCardinality();
+            Map<String, Long> cities = new LinkedHashMap<>();
+            countEach(current.byCity, current.filter(null, type, categoryId, min, max))
+                    .forEach((key, count) -> cities.put(current.cityNames.getOrDefault(key, key), count));
+            Map<EstateType, Long> types = countEach(current.byType, current.filter(city, null, categoryId, min, max));
+            Map<Long, Long> categories = countEach(current.byCategory, current.filter(city, type, null, min, max));
+
+            RoaringBitmap withoutPrice = current.filter(city, type, categoryId, null, null);
+            long[] buckets = new long[priceEdges.length];
+            for (int i = 0; i < priceEdges.length; i++) {
+                Double upper = i + 1 < priceEdges.length ? Math.nextDown(priceEdges[i + 1]) : null;
+                buckets[i] = RoaringBitmap.andCardinality(withoutPrice, current.byPrice.range(priceEdges[i], upper));
+            }
+
+            return Optional.of(new FacetCounts(total, cities, types, categories, buckets));
+        });
+    }
+
+    private static <K> Map<K, Long> countEach(Map<K, RoaringBitmap> bitmaps, RoaringBitmap filter) {
+        Map<K, Long> counts = new LinkedHashMap<>();
+        bitmaps.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), (long) RoaringBitmap.andCardinality(filter, entry.getValue())))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+        return counts;
+    }
+
+    static int toDocId(Long estateId) {
+        return Math.toIntExact(estateId);
+    }
+
+    private static Double toDouble(Integer value) {
+        return value == null ? null : value.doubleValue();
+    }
+
+    static double createdAtKey(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return 0;
+        }
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000d + createdAt.getNano() / 1_000;
+    }
+
+    private static final class State {
+        private final Map<Integer, IndexedEstate> docs = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        // keyed by folded city; the last spelling seen is shown in facets
+        private final Map<String, RoaringBitmap> byCity = new HashMap<>();
+        private final Map<String, String> cityNames = new HashMap<>();
+        private final Map<EstateType, RoaringBitmap> byType = new EnumMap<>(EstateType.class);
+        private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+        private SortedColumn byPrice = new SortedColumn();
+        private SortedColumn byCreatedAt = new SortedColumn();
+        // only estates that have the attribute
+        private SortedColumn byBedrooms = new SortedColumn();
+        private SortedColumn byBathrooms = new SortedColumn();
+        private SortedColumn byArea = new SortedColumn();
+
+        static State build(Stream<IndexedEstate> estates) {
+            State state = new State();
+            estates.forEach(estate -> {
+                int docId = toDocId(estate.getId());
+                if (state.docs.put(docId, estate) == null) {
+                    state.addToBitmaps(docId, estate);
+                }
+            });
+
+            int size = state.docs.size();
+            int[] ids = new int[size];
+            double[] prices = new double[size];
+            double[] createdAts = new double[size];
+            int i = 0;
+            for (Map.Entry<Integer, IndexedEstate> entry : state.docs.entrySet()) {
+                ids[i] = entry.getKey();
+                prices[i] = entry.getValue().getPrice();
+                createdAts[i] = createdAtKey(entry.getValue().getCreatedAt());
+                i++;
+            }
+
+            state.byPrice = SortedColumn.build(prices, ids, size);
+            state.byCreatedAt = SortedColumn.build(createdAts, ids, size);
+            state.byBedrooms = attributeColumn(state.docs, estate -> toDouble(estate.getBedrooms()));
+            state.byBathrooms = attributeColumn(state.docs, estate -> toDouble(estate.getBathrooms()));
+            state.byArea = attributeColumn(state.docs, IndexedEstate::getArea);
+            return state;
+        }
+
+        private static SortedColumn attributeColumn(Map<Integer, IndexedEstate> docs,
+                Function<IndexedEstate, Double> attribute) {
+            int[] ids = new int[docs.size()];
+            double[] keys = new double[docs.size()];
+            int size = 0;
+            for (Map.Entry<Integer, IndexedEstate> entry : docs.entrySet()) {
+                Double key = attribute.apply(entry.getValue());
+                if (key != null) {
+                    ids[size] = entry.getKey();
+                    keys[size++] = key;
+                }
+            }
+            return SortedColumn.build(keys, ids, size);
+        }
+
+        void add(IndexedEstate estate) {
+            int docId = toDocId(estate.getId());
+            docs.put(docId, estate);
+            addToBitmaps(docId, estate);
+            byPrice.add(estate.getPrice(), docId);
+            byCreatedAt.add(createdAtKey(estate.getCreatedAt()), docId);
+            if (estate.getBedrooms() != null) {
+                byBedrooms.add(estate.getBedrooms(), docId);
+            }
+            if (estate.getBathrooms() != null) {
+                byBathrooms.add(estate.getBathrooms(), docId);
+            }
+            if (estate.getArea() != null) {
+                byArea.add(estate.getArea(), docId);
+            }
+        }
+
+        void remove(int docId) {
+            IndexedEstate estate = docs.remove(docId);
+            if (estate == null) {
+                return;
+            }
+            all.remove(docId);
+            removeFrom(byCity, estate.getCityKey(), docId);
+            removeFrom(byType, estate.getType(), docId);
+            removeFrom(byCategory, estate.getCategoryId(), docId);
+            byPrice.remove(estate.getPrice(), docId);
+            byCreatedAt.remove(createdAtKey(estate.getCreatedAt()), docId);
+            if (estate.getBedrooms() != null) {
+                byBedrooms.remove(estate.getBedrooms(), docId);
+            }
+            if (estate.getBathrooms() != null) {
+                byBathrooms.remove(estate.getBathrooms(), docId);
+            }
+            if (estate.getArea() != null) {
+                byArea.remove(estate.getArea(), docId);
+            }
+        }
+
+        RoaringBitmap filter(String city, EstateType type, Long categoryId, Double minPrice, Double maxPrice) {
+            return filter(city, type, categoryId, minPrice, maxPrice, AttributeFilter.NONE);
+        }
+
+        RoaringBitmap filter(String city, EstateType type, Long categoryId, Double minPrice, Double maxPrice,
+                AttributeFilter attributes) {
+            List<RoaringBitmap> bitmaps = new ArrayList<>(4);
+            if (city != null) {
+                bitmaps.add(byCity.getOrDefault(city, new RoaringBitmap()));
+            }
+            if (type != null) {
+                bitmaps.add(byType.getOrDefault(type, new RoaringBitmap()));
+            }
+            if (categoryId != null) {
+                bitmaps.add(byCategory.getOrDefault(categoryId, new RoaringBitmap()));
+            }
+            if (minPrice != null || maxPrice != null) {
+                bitmaps.add(byPrice.range(minPrice, maxPrice));
+            }
+            if (attributes.minBedrooms() != null) {
+                bitmaps.add(byBedrooms.range(toDouble(attributes.minBedrooms()), null));
+            }
+            if (attributes.minBathrooms() != null) {
+                bitmaps.add(byBathrooms.range(toDouble(attributes.minBathrooms()), null));
+            }
+            if (attributes.minArea() != null || attributes.maxArea() != null) {
+                bitmaps.add(byArea.range(attributes.minArea(), attributes.maxArea()));
+            }
+
+            if (bitmaps.isEmpty()) {
+                return all;
+            }
+            if (bitmaps.size() == 1) {
+                return bitmaps.get(0);
+            }
+            return FastAggregation.and(bitmaps.iterator());
+        }
+
+        private void addToBitmaps(int docId, IndexedEstate estate) {
+            all.add(docId);
+            // a blank city has no key: no city filter or facet can select it
+            if (estate.getCityKey() != null) {
+                byCity.computeIfAbsent(estate.getCityKey(), key -> new RoaringBitmap()).add(docId);
+                cityNames.put(estate.getCityKey(), estate.getCity());
+            }
+            byType.computeIfAbsent(estate.getType(), key -> new RoaringBitmap()).add(docId);
+            byCategory.computeIfAbsent(estate.getCategoryId(), key -> new RoaringBitmap()).add(docId);
+        }
+
+        private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int docId) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap == null) {
+                return;
+            }
+            bitmap.remove(docId);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
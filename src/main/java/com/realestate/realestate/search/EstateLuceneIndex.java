@@ -0,0 +1,487 @@
+package com.realestate.realestate.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.LatLonPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.enums.EstateType;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded Lucene index over the text of APPROVED estates, stored in an
+ * MMapDirectory. Each rebuild writes a new generation directory that is
+ * swapped in once complete; it is never committed, since the index is
+ * rebuilt from the database on every start. Holds name, description, address,
+ * city and characteristic values as analyzed text plus the type, category and
+ * price and typed attributes needed to apply the regular listing filters. Estates with coordinates
+ * also get a LatLonPoint, whose BKD tree answers radius and bounding-box
+ * queries.
+ */
+@Component
+@Slf4j
+public class EstateLuceneIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_ADDRESS = "address";
+    private static final String FIELD_CITY = "city";
+    private static final String FIELD_CHARACTERISTICS = "characteristics";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_CATEGORY = "categoryId";
+    private static final String FIELD_PRICE = "price";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_LOCATION = "location";
+    private static final String FIELD_BEDROOMS = "bedrooms";
+    private static final String FIELD_BATHROOMS = "bathrooms";
+    private static final String FIELD_AREA = "area";
+
+    // deepest page a search may reach: offset + page size
+    public static final int MAX_RESULT_WINDOW = 10_000;
+
+    private static final Map<String, Float> TEXT_FIELDS = Map.of(
+            FIELD_NAME, 3.0f,
+            FIELD_CITY, 2.0f,
+            FIELD_ADDRESS, 1.5f,
+            FIELD_CHARACTERISTICS, 1.0f,
+            FIELD_DESCRIPTION, 1.0f);
+
+    private final Analyzer analyzer = new EstateAnalyzer();
+
+    private final Path indexPath;
+    private final AtomicInteger generations = new AtomicInteger();
+
+    private RebuildableState<Generation> states;
+
+    public EstateLuceneIndex(@Value("${app.search.lucene-path}") Path indexPath) {
+        this.indexPath = indexPath;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(indexPath);
+        // generations left by a previous run are never reopened
+        try (Stream<Path> leftovers = Files.list(indexPath)) {
+            for (Path leftover : leftovers.filter(path -> path.getFileName().toString().startsWith("gen-")).toList()) {
+                IOUtils.rm(leftover);
+            }
+        }
+        states = new RebuildableState<>(newGeneration());
+        log.info("Opened estate text index at {}", indexPath);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        states.read(current -> current).close();
+        analyzer.close();
+    }
+
+    /**
+     * Builds a new generation from {@code source} while searches keep using
+     * the current one; changes made meanwhile are replayed onto it before the
+     * swap.
+     */
+    public synchronized int replaceAll(Consumer<Consumer<Collection<Estate>>> source) {
+        Generation previous = states.read(current -> current);
+        int indexed = states.rebuild(() -> build(source), Generation::size);
+        try {
+            previous.close();
+        } catch (IOException ex) {
+            log.warn("Failed to delete the previous text index at {}", previous.path, ex);
+        }
+        return indexed;
+    }
+
+    public void upsert(Collection<Estate> estates) {
+        List<Document> documents = estates.stream().map(EstateLuceneIndex::toDocument).toList();
+        states.apply(current -> documents.forEach(current::update));
+        states.read(Generation::refresh);
+    }
+
+    public void remove(Long estateId) {
+        states.apply(current -> current.delete(estateId));
+        states.read(Generation::refresh);
+    }
+
+    private Generation build(Consumer<Consumer<Collection<Estate>>> source) {
+        Generation fresh = newGeneration();
+        try {
+            source.accept(batch -> batch.forEach(estate -> fresh.add(toDocument(estate))));
+            fresh.refreshBlocking();
+            return fresh;
+        } catch (RuntimeException ex) {
+            try {
+                fresh.close();
+            } catch (IOException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            throw ex;
+        }
+    }
+
+    private Generation newGeneration() {
+        try {
+            return new Generation(indexPath.resolve("gen-" + generations.incrementAndGet()), analyzer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Page<Long> search(
+            String text,
+            EstateType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Long categoryId,
+            AttributeFilter attributes,
+            String sortBy,
+            boolean ascending,
+            Pageable pageable) {
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        query.add(textQuery(text), BooleanClause.Occur.MUST);
+        addFilters(query, type, minPrice, maxPrice, categoryId, attributes);
+
+        return states.read(current -> execute(current, query.build(), sort(sortBy, ascending), pageable));
+    }
+
+    public Page<Long> searchWithinRadius(
+            double latitude,
+            double longitude,
+            double radiusMeters,
+            EstateType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Long categoryId,
+            AttributeFilter attributes,
+            Pageable pageable) {
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        query.add(LatLonPoint.newDistanceQuery(FIELD_LOCATION, latitude, longitude, radiusMeters),
+                BooleanClause.Occur.FILTER);
+        addFilters(query, type, minPrice, maxPrice, categoryId, attributes);
+
+        Sort byDistance = new Sort(LatLonDocValuesField.newDistanceSort(FIELD_LOCATION, latitude, longitude));
+        return states.read(current -> execute(current, query.build(), byDistance, pageable));
+    }
+
+    public Page<Long> searchWithinBox(
+            double minLatitude,
+            double maxLatitude,
+            double minLongitude,
+            double maxLongitude,
+            EstateType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Long categoryId,
+            AttributeFilter attributes,
+            Pageable pageable) {
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        query.add(LatLonPoint.newBoxQuery(FIELD_LOCATION, minLatitude, maxLatitude, minLongitude, maxLongitude),
+                BooleanClause.Occur.FILTER);
+        addFilters(query, type, minPrice, maxPrice, categoryId, attributes);
+
+        return states.read(current -> execute(current, query.build(), sort(FIELD_CREATED_AT, false), pageable));
+    }
+
+    private static void addFilters(
+            BooleanQuery.Builder query,
+            EstateType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Long categoryId,
+            AttributeFilter attributes) {
+
+        if (type != null) {
+            query.add(new TermQuery(new Term(FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+        if (categoryId != null) {
+            query.add(LongPoint.newExactQuery(FIELD_CATEGORY, categoryId), BooleanClause.Occur.FILTER);
+        }
+        if (minPrice != null || maxPrice != null) {
+            double min = minPrice == null ? Double.NEGATIVE_INFINITY : minPrice.doubleValue();
+            double max = maxPrice == null ? Double.POSITIVE_INFINITY : maxPrice.doubleValue();
+            query.add(DoublePoint.newRangeQuery(FIELD_PRICE, min, max), BooleanClause.Occur.FILTER);
+        }
+        // estates without a value have no point, so they never match a constrained attribute
+        if (attributes.minBedrooms() != null) {
+            query.add(IntPoint.newRangeQuery(FIELD_BEDROOMS, attributes.minBedrooms(), Integer.MAX_VALUE),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (attributes.minBathrooms() != null) {
+            query.add(IntPoint.newRangeQuery(FIELD_BATHROOMS, attributes.minBathrooms(), Integer.MAX_VALUE),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (attributes.minArea() != null || attributes.maxArea() != null) {
+            double min = attributes.minArea() == null ? Double.NEGATIVE_INFINITY : attributes.minArea();
+            double max = attributes.maxArea() == null ? Double.POSITIVE_INFINITY : attributes.maxArea();
+            query.add(DoublePoint.newRangeQuery(FIELD_AREA, min, max), BooleanClause.Occur.FILTER);
+        }
+    }
+
+    private static Page<Long> execute(Generation generation, Query query, Sort sort, Pageable pageable) {
+        // callers validate the window; past it the page is simply empty
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), MAX_RESULT_WINDOW);
+        int offset = (int) Math.min(pageable.getOffset(), limit);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = generation.searcherManager.acquire();
+            TopDocs topDocs = sort == null ? searcher.search(query, limit) : searcher.search(query, limit, sort);
+
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = offset; i < hits.length; i++) {
+                Document document = searcher.storedFields().document(hits[i].doc, Set.of(FIELD_ID));
+                ids.add(Long.valueOf(document.get(FIELD_ID)));
+            }
+
+            long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? topDocs.totalHits.value
+                    : searcher.count(query);
+            return new PageImpl<>(ids, pageable, total);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            if (searcher != null) {
+                try {
+                    generation.searcherManager.release(searcher);
+                } catch (IOException ex) {
+                    log.warn("Failed to release index searcher", ex);
+                }
+            }
+        }
+    }
+
+    private Query textQuery(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return new MatchAllDocsQuery();
+        }
+
+        boolean lastIsPrefix = !text.endsWith(" ");
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            boolean prefix = lastIsPrefix && i == terms.size() - 1;
+
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            TEXT_FIELDS.forEach((field, boost) -> {
+                Query fieldQuery = prefix
+                        ? new PrefixQuery(new Term(field, term))
+                        : new TermQuery(new Term(field, term));
+                anyField.add(new BoostQuery(fieldQuery, boost), BooleanClause.Occur.SHOULD);
+            });
+            all.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return all.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(FIELD_NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+
+    private static Sort sort(String sortBy, boolean ascending) {
+        if (FIELD_PRICE.equals(sortBy)) {
+            return new Sort(new SortField(FIELD_PRICE, SortField.Type.DOUBLE, !ascending));
+        }
+        if (FIELD_CREATED_AT.equals(sortBy)) {
+            return new Sort(new SortField(FIELD_CREATED_AT, SortField.Type.LONG, !ascending));
+        }
+        return null;
+    }
+
+    private static Term idTerm(Long estateId) {
+        return new Term(FIELD_ID, estateId.toString());
+    }
+
+    private static Term idTerm(Document document) {
+        return new Term(FIELD_ID, document.get(FIELD_ID));
+    }
+
+    private static Document toDocument(Estate estate) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, estate.getId().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_NAME, estate.getName(), Field.Store.NO));
+        document.add(new TextField(FIELD_DESCRIPTION, estate.getDescription(), Field.Store.NO));
+        document.add(new TextField(FIELD_ADDRESS, estate.getAddress(), Field.Store.NO));
+        document.add(new TextField(FIELD_CITY, estate.getCity(), Field.Store.NO));
+
+        String characteristics = estate.getCharacteristics().stream()
+                .map(characteristic -> characteristic.getName() + " " + characteristic.getValue())
+                .collect(Collectors.joining(" "));
+        document.add(new TextField(FIELD_CHARACTERISTICS, characteristics, Field.Store.NO));
+
+        document.add(new StringField(FIELD_TYPE, estate.getType().name(), Field.Store.NO));
+        document.add(new LongPoint(FIELD_CATEGORY, estate.getCategory().getId()));
+        document.add(new DoublePoint(FIELD_PRICE, estate.getPrice()));
+        document.add(new DoubleDocValuesField(FIELD_PRICE, estate.getPrice()));
+
+        long createdAt = estate.getCreatedAt() == null
+                ? 0
+                : estate.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, createdAt));
+
+        if (estate.getBedrooms() != null) {
+            document.add(new IntPoint(FIELD_BEDROOMS, estate.getBedrooms()));
+        }
+        if (estate.getBathrooms() != null) {
+            document.add(new IntPoint(FIELD_BATHROOMS, estate.getBathrooms()));
+        }
+        if (estate.getArea() != null) {
+            document.add(new DoublePoint(FIELD_AREA, estate.getArea()));
+        }
+
+        if (estate.getLatitude() != null && estate.getLongitude() != null) {
+            document.add(new LatLonPoint(FIELD_LOCATION, estate.getLatitude(), estate.getLongitude()));
+            document.add(new LatLonDocValuesField(FIELD_LOCATION, estate.getLatitude(), estate.getLongitude()));
+        }
+        return document;
+    }
+
+    private static final class Generation {
+        private final Path path;
+        private final MMapDirectory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        Generation(Path path, Analyzer analyzer) throws IOException {
+            this.path = path;
+            this.directory = new MMapDirectory(path);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            this.searcherManager = new SearcherManager(writer, null);
+        }
+
+        // refreshes first, so replayed changes are both counted and visible
+        int size() {
+            refreshBlocking();
+            try {
+                IndexSearcher searcher = searcherManager.acquire();
+                try {
+                    return searcher.getIndexReader().numDocs();
+                } finally {
+                    searcherManager.release(searcher);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void add(Document document) {
+            try {
+                writer.addDocument(document);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void update(Document document) {
+            try {
+                writer.updateDocument(idTerm(document), document);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void delete(Long estateId) {
+            try {
+                writer.deleteDocuments(idTerm(estateId));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void refreshBlocking() {
+            try {
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        boolean refresh() {
+            try {
+                return searcherManager.maybeRefresh();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        // searches hold the read lock, so none still uses a generation once it is swapped out
+        void close() throws IOException {
+            IOUtils.close(searcherManager, writer, directory);
+            IOUtils.rm(path);
+        }
+    }
+}
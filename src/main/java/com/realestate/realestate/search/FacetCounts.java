@@ -0,0 +1,23 @@
+package com.realestate.realestate.search;
+
+import java.util.Map;
+
+import com.realestate.realestate.enums.EstateType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Per-value match counts for each listing filter dimension. Each dimension is
+ * counted against the other active filters only, so the counts describe what
+ * selecting that value instead would return.
+ */
+@Getter
+@AllArgsConstructor
+public class FacetCounts {
+    private final long total;
+    private final Map<String, Long> cities;
+    private final Map<EstateType, Long> types;
+    private final Map<Long, Long> categories;
+    private final long[] priceBuckets;
+}
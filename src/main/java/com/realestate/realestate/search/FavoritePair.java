@@ -0,0 +1,11 @@
+package com.realestate.realestate.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FavoritePair {
+    private final Long userId;
+    private final Long estateId;
+}
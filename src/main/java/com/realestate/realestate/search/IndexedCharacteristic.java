@@ -0,0 +1,12 @@
+package com.realestate.realestate.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IndexedCharacteristic {
+    private final Long estateId;
+    private final String name;
+    private final String value;
+}
@@ -0,0 +1,55 @@
+package com.realestate.realestate.search;
+
+import java.time.LocalDateTime;
+
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.util.TextFolding;
+
+import lombok.Getter;
+
+@Getter
+public class IndexedEstate {
+    private final Long id;
+    private final String city;
+    private final String cityKey;
+    private final EstateType type;
+    private final Long categoryId;
+    private final double price;
+    private final LocalDateTime createdAt;
+    private final Integer bedrooms;
+    private final Integer bathrooms;
+    private final Double area;
+
+    public IndexedEstate(Long id, String city, EstateType type, Long categoryId, double price,
+            LocalDateTime createdAt) {
+        this(id, city, type, categoryId, price, createdAt, null, null, null);
+    }
+
+    public IndexedEstate(Long id, String city, EstateType type, Long categoryId, double price,
+            LocalDateTime createdAt, Integer bedrooms, Integer bathrooms, Double area) {
+        this.id = id;
+        this.city = city;
+        this.cityKey = TextFolding.fold(city);
+        this.type = type;
+        this.categoryId = categoryId;
+        this.price = price;
+        this.createdAt = createdAt;
+        this.bedrooms = bedrooms;
+        this.bathrooms = bathrooms;
+        this.area = area;
+    }
+
+    public static IndexedEstate of(Estate estate) {
+        return new IndexedEstate(
+                estate.getId(),
+                estate.getCity(),
+                estate.getType(),
+                estate.getCategory().getId(),
+                estate.getPrice(),
+                estate.getCreatedAt(),
+                estate.getBedrooms(),
+                estate.getBathrooms(),
+                estate.getArea());
+    }
+}
@@ -0,0 +1,36 @@
+package com.realestate.realestate.search;
+
+import com.realestate.realestate.entity.SavedSearch;
+import com.realestate.realestate.enums.EstateType;
+
+import com.realestate.realestate.util.TextFolding;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IndexedSavedSearch {
+    private final Long id;
+    private final Long userId;
+    private final String city;
+    private final EstateType type;
+    private final Long categoryId;
+    private final Double minPrice;
+    private final Double maxPrice;
+
+    public String getCityKey() {
+        return TextFolding.fold(city);
+    }
+
+    public static IndexedSavedSearch of(SavedSearch search) {
+        return new IndexedSavedSearch(
+                search.getId(),
+                search.getUser().getId(),
+                search.getCity(),
+                search.getType(),
+                search.getCategoryId(),
+                search.getMinPrice(),
+                search.getMaxPrice());
+    }
+}
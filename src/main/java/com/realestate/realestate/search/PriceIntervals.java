@@ -0,0 +1,186 @@
+package com.realestate.realestate.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Closed price intervals keyed by doc id, answering "which intervals contain
+ * this price" with a centered interval tree. Open ends are stored as
+ * infinities. Adds go to a small unsorted overflow and removals to a
+ * tombstone bitmap until there are enough of them to rebuild the tree.
+ */
+final class PriceIntervals {
+
+    private static final int MIN_REBUILD_CHANGES = 64;
+
+    private final Map<Integer, double[]> intervals = new HashMap<>();
+    private Node root;
+    private int[] overflow = new int[16];
+    private int overflowSize;
+    private final RoaringBitmap removed = new RoaringBitmap();
+
+    int size() {
+        return intervals.size();
+    }
+
+    /**
+     * Loads many intervals with a single tree build; the last interval of a
+     * repeated id wins.
+     */
+    static PriceIntervals build(int[] ids, Double[] mins, Double[] maxs) {
+        PriceIntervals built = new PriceIntervals();
+        for (int i = 0; i < ids.length; i++) {
+            built.intervals.put(ids[i], interval(mins[i], maxs[i]));
+        }
+        built.root = built.build(built.ids());
+        return built;
+    }
+
+    void add(int id, Double min, Double max) {
+        remove(id);
+        intervals.put(id, interval(min, max));
+        if (overflowSize == overflow.length) {
+            overflow = Arrays.copyOf(overflow, overflowSize * 2);
+        }
+        overflow[overflowSize++] = id;
+        rebuildIfChanged();
+    }
+
+    void remove(int id) {
+        if (intervals.remove(id) == null) {
+            return;
+        }
+        for (int i = 0; i < overflowSize; i++) {
+            if (overflow[i] == id) {
+                overflow[i] = overflow[--overflowSize];
+                return;
+            }
+        }
+        removed.add(id);
+        rebuildIfChanged();
+    }
+
+    RoaringBitmap containing(double price) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (Node node = root; node != null; ) {
+            if (price < node.center) {
+                for (int i = 0; i < node.ids.length && node.mins[i] <= price; i++) {
+                    result.add(node.ids[i]);
+                }
+                node = node.left;
+            } else if (price > node.center) {
+                for (int i = 0; i < node.idsByMax.length && node.maxs[i] >= price; i++) {
+                    result.add(node.idsByMax[i]);
+                }
+                node = node.right;
+            } else {
+                result.add(node.ids);
+                break;
+            }
+        }
+        result.andNot(removed);
+        for (int i = 0; i < overflowSize; i++) {
+            double[] interval = intervals.get(overflow[i]);
+            if (interval[0] <= price && price <= interval[1]) {
+                result.add(overflow[i]);
+            }
+        }
+        return result;
+    }
+
+    private static double[] interval(Double min, Double max) {
+        return new double[] {
+                min == null ? Double.NEGATIVE_INFINITY : min,
+                max == null ? Double.POSITIVE_INFINITY : max };
+    }
+
+    private void rebuildIfChanged() {
+        int changes = overflowSize + removed.getCardinality();
+        if (changes >= Math.max(MIN_REBUILD_CHANGES, intervals.size() / 4)) {
+            root = build(ids());
+            overflowSize = 0;
+            removed.clear();
+        }
+    }
+
+    private int[] ids() {
+        return intervals.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private Node build(int[] ids) {
+        if (ids.length == 0) {
+            return null;
+        }
+        double center = medianEndpoint(ids);
+        List<Integer> here = new ArrayList<>();
+        int[] left = new int[ids.length];
+        int[] right = new int[ids.length];
+        int leftSize = 0;
+        int rightSize = 0;
+        for (int id : ids) {
+            double[] interval = intervals.get(id);
+            if (interval[1] < center) {
+                left[leftSize++] = id;
+            } else if (interval[0] > center) {
+                right[rightSize++] = id;
+            } else {
+                here.add(id);
+            }
+        }
+        return new Node(center, here, intervals,
+                build(Arrays.copyOf(left, leftSize)), build(Arrays.copyOf(right, rightSize)));
+    }
+
+    // intervals open on both ends have no finite endpoint and contain any center
+    private double medianEndpoint(int[] ids) {
+        double[] endpoints = new double[ids.length * 2];
+        int count = 0;
+        for (int id : ids) {
+            for (double endpoint : intervals.get(id)) {
+                if (!Double.isInfinite(endpoint)) {
+                    endpoints[count++] = endpoint;
+                }
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(endpoints, 0, count);
+        return endpoints[count / 2];
+    }
+
+    /**
+     * Intervals that contain {@code center}, once sorted by ascending min and
+     * once by descending max, so a lookup stops at the first miss.
+     */
+    private static final class Node {
+        private final double center;
+        private final int[] ids;
+        private final double[] mins;
+        private final int[] idsByMax;
+        private final double[] maxs;
+        private final Node left;
+        private final Node right;
+
+        Node(double center, List<Integer> here, Map<Integer, double[]> intervals, Node left, Node right) {
+            this.center = center;
+            this.left = left;
+            this.right = right;
+            this.ids = here.stream()
+                    .sorted((a, b) -> Double.compare(intervals.get(a)[0], intervals.get(b)[0]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            this.mins = Arrays.stream(ids).mapToDouble(id -> intervals.get(id)[0]).toArray();
+            this.idsByMax = here.stream()
+                    .sorted((a, b) -> Double.compare(intervals.get(b)[1], intervals.get(a)[1]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            this.maxs = Arrays.stream(idsByMax).mapToDouble(id -> intervals.get(id)[1]).toArray();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.realestate.realestate.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.realestate.realestate.enums.EstateType;
+import com.tdunning.math.stats.MergingDigest;
+
+/**
+ * Asking-price sketches for APPROVED estates, one per city/category/type
+ * combination (each dimension may be a wildcard). Count and mean are exact;
+ * percentiles come from a t-digest. A digest cannot forget a value, so a
+ * removal only adjusts count and sum and marks the segment stale until
+ * {@link #refreshStale()} rebuilds it from the retained member prices. The
+ * rebuild reads a snapshot of the members outside the lock; changes made
+ * meanwhile are replayed onto the rebuilt segments before they are swapped in.
+ */
+@Component
+public class PriceSketchIndex {
+
+    private static final double COMPRESSION = 100;
+
+    private final RebuildableState<State> states = new RebuildableState<>(new State());
+
+    public boolean isReady() {
+        return states.isReady();
+    }
+
+    public int rebuild(Stream<IndexedEstate> estates) {
+        int indexed = states.rebuild(() -> {
+            State fresh = new State();
+            estates.forEach(fresh::add);
+            fresh.publish();
+            return fresh;
+        }, fresh -> fresh.members.size());
+        refreshStale();
+        return indexed;
+    }
+
+    public void upsert(IndexedEstate estate) {
+        states.apply(current -> {
+            current.remove(estate.getId());
+            current.add(estate);
+            current.publish();
+        });
+    }
+
+    public void remove(Long estateId) {
+        states.apply(current -> {
+            current.remove(estateId);
+            current.publish();
+        });
+    }
+
+    public int refreshStale() {
+        Refresh refresh = states.write(State::startRefresh);
+        if (refresh == null) {
+            return 0;
+        }
+
+        Map<SegmentKey, Segment> rebuilt;
+        try {
+            rebuilt = segmentsOf(refresh.members(), refresh.keys());
+        } catch (RuntimeException ex) {
+            states.write(current -> {
+                refresh.state().abortRefresh(refresh);
+                return null;
+            });
+            throw ex;
+        }
+
+        // finishes on the state the refresh started from, even if a rebuild has replaced it since
+        return states.write(current -> refresh.state().finishRefresh(refresh, rebuilt));
+    }
+
+    public Optional<PriceSummary> summarize(String city, Long categoryId, EstateType type) {
+        if (!states.isReady()) {
+            return Optional.empty();
+        }
+        return states.read(current -> {
+            Segment segment = current.segments.get(new SegmentKey(city, categoryId, type));
+            return Optional.of(segment == null ? PriceSummary.empty() : segment.summary);
+        });
+    }
+
+    private static Map<SegmentKey, Segment> segmentsOf(List<IndexedEstate> members, Set<SegmentKey> keys) {
+        Map<SegmentKey, Segment> segments = new HashMap<>();
+        for (IndexedEstate estate : members) {
+            for (SegmentKey key : SegmentKey.of(estate)) {
+                if (keys.contains(key)) {
+                    segments.computeIfAbsent(key, k -> new Segment()).add(estate.getPrice());
+                }
+            }
+        }
+        return segments;
+    }
+
+    private record SegmentKey(String city, Long categoryId, EstateType type) {
+
+        static List<SegmentKey> of(IndexedEstate estate) {
+            List<SegmentKey> keys = new ArrayList<>(8);
+            // an estate without a city key only counts towards the all-cities segments
+            String[] cities = estate.getCityKey() == null
+                    ? new String[] { null }
+                    : new String[] { null, estate.getCityKey() };
+            for (String city : cities) {
+                for (Long categoryId : new Long[] { null, estate.getCategoryId() }) {
+                    for (EstateType type : new EstateType[] { null, estate.getType() }) {
+                        keys.add(new SegmentKey(city, categoryId, type));
+                    }
+                }
+            }
+            return keys;
+        }
+    }
+
+    // querying a t-digest merges its buffer, so the summary is computed once
+    // per change under the write lock and readers only share the result
+    private static final class Segment {
+        private final MergingDigest digest = new MergingDigest(COMPRESSION);
+        private long count;
+        private double sum;
+        private boolean changed;
+        private PriceSummary summary = PriceSummary.empty();
+
+        void add(double price) {
+            digest.add(price);
+            count++;
+            sum += price;
+            changed = true;
+        }
+
+        void subtract(double price) {
+            count--;
+            sum -= price;
+            changed = true;
+        }
+
+        void publish() {
+            if (!changed) {
+                return;
+            }
+            summary = count <= 0
+                    ? PriceSummary.empty()
+                    : new PriceSummary(count, sum / count, digest.quantile(0.1), digest.quantile(0.5),
+                            digest.quantile(0.9));
+            changed = false;
+        }
+    }
+
+    private record Refresh(State state, List<IndexedEstate> members, Set<SegmentKey> keys) {
+    }
+
+    private record Change(IndexedEstate estate, boolean added) {
+    }
+
+    private static final class State {
+        private final Map<Long, IndexedEstate> members = new HashMap<>();
+        private final Map<SegmentKey, Segment> segments = new HashMap<>();
+        private final Set<SegmentKey> stale = new HashSet<>();
+        private final Set<SegmentKey> changed = new HashSet<>();
+        // set while stale segments are rebuilt outside the lock
+        private List<Change> changesDuringRefresh;
+
+        void add(IndexedEstate estate) {
+            if (members.putIfAbsent(estate.getId(), estate) != null) {
+                return;
+            }
+            List<SegmentKey> keys = SegmentKey.of(estate);
+            addTo(segments, keys, estate);
+            changed.addAll(keys);
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.add(new Change(estate, true));
+            }
+        }
+
+        void remove(Long estateId) {
+            IndexedEstate estate = members.remove(estateId);
+            if (estate == null) {
+                return;
+            }
+            List<SegmentKey> keys = SegmentKey.of(estate);
+            subtractFrom(segments, keys, estate);
+            changed.addAll(keys);
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.add(new Change(estate, false));
+            }
+        }
+
+        void publish() {
+            for (SegmentKey key : changed) {
+                Segment segment = segments.get(key);
+                if (segment != null) {
+                    segment.publish();
+                }
+            }
+            changed.clear();
+        }
+
+        Refresh startRefresh() {
+            if (stale.isEmpty() || changesDuringRefresh != null) {
+                return null;
+            }
+            Refresh refresh = new Refresh(this, new ArrayList<>(members.values()), Set.copyOf(stale));
+            stale.clear();
+            changesDuringRefresh = new ArrayList<>();
+            return refresh;
+        }
+
+        void abortRefresh(Refresh refresh) {
+            stale.addAll(refresh.keys());
+            changesDuringRefresh = null;
+        }
+
+        int finishRefresh(Refresh refresh, Map<SegmentKey, Segment> rebuilt) {
+            for (Change change : changesDuringRefresh) {
+                List<SegmentKey> keys = SegmentKey.of(change.estate()).stream()
+                        .filter(refresh.keys()::contains)
+                        .toList();
+                if (change.added()) {
+                    addTo(rebuilt, keys, change.estate());
+                } else {
+                    subtractFrom(rebuilt, keys, change.estate());
+                }
+            }
+            changesDuringRefresh = null;
+            rebuilt.values().forEach(Segment::publish);
+
+            for (SegmentKey key : refresh.keys()) {
+                Segment segment = rebuilt.get(key);
+                if (segment == null) {
+                    segments.remove(key);
+                } else {
+                    segments.put(key, segment);
+                }
+            }
+            return refresh.keys().size();
+        }
+
+        private static void addTo(Map<SegmentKey, Segment> segments, List<SegmentKey> keys, IndexedEstate estate) {
+            for (SegmentKey key : keys) {
+                segments.computeIfAbsent(key, k -> new Segment()).add(estate.getPrice());
+            }
+        }
+
+        private void subtractFrom(Map<SegmentKey, Segment> segments, List<SegmentKey> keys,
+                IndexedEstate estate) {
+            for (SegmentKey key : keys) {
+                Segment segment = segments.get(key);
+                if (segment != null) {
+                    segment.subtract(estate.getPrice());
+                    stale.add(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.realestate.realestate.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PriceSummary {
+    private final long count;
+    private final Double mean;
+    private final Double p10;
+    private final Double median;
+    private final Double p90;
+
+    static PriceSummary empty() {
+        return new PriceSummary(0, null, null, null, null);
+    }
+}
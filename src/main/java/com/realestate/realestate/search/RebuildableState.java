@@ -0,0 +1,102 @@
+package com.realestate.realestate.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * The state of an in-memory index or cache behind a read/write lock. A rebuild builds
+ * the new state outside the lock; updates applied meanwhile go to the current
+ * state and are replayed onto the new one before it is swapped in.
+ */
+public final class RebuildableState<S> {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Consumer<S>> pendingDuringRebuild = new ArrayList<>();
+
+    private S state;
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public RebuildableState(S initial) {
+        this.state = initial;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public <R> R read(Function<S, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public <R> R write(Function<S, R> writer) {
+        lock.writeLock().lock();
+        try {
+            return writer.apply(state);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void apply(Consumer<S> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(state);
+            if (rebuilding) {
+                pendingDuringRebuild.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds a new state and swaps it in; returns its size as measured under
+     * the lock.
+     */
+    public int rebuild(Supplier<S> builder, ToIntFunction<S> size) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        S fresh;
+        try {
+            fresh = builder.get();
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(update -> update.accept(fresh));
+            pendingDuringRebuild.clear();
+            state = fresh;
+            rebuilding = false;
+            ready = true;
+            return size.applyAsInt(fresh);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.realestate.realestate.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import com.realestate.realestate.enums.EstateType;
+
+/**
+ * Saved searches indexed by their predicates, so matching a newly approved
+ * estate is the reverse of a search: per city, type and category a bitmap of
+ * the searches asking for that value is OR-ed with the searches that leave it
+ * open, the price interval tree gives the searches whose range contains the
+ * price, and the intersection is the set of searches to notify.
+ */
+@Component
+public class SavedSearchIndex {
+
+    private final RebuildableState<State> states = new RebuildableState<>(new State());
+
+    public boolean isReady() {
+        return states.isReady();
+    }
+
+    public int size() {
+        return states.read(current -> current.searches.size());
+    }
+
+    public int rebuild(Stream<IndexedSavedSearch> searches) {
+        return states.rebuild(() -> State.build(searches), fresh -> fresh.searches.size());
+    }
+
+    public void upsert(IndexedSavedSearch search) {
+        states.apply(current -> {
+            current.remove(toDocId(search.getId()));
+            current.add(search);
+        });
+    }
+
+    public void remove(Long savedSearchId) {
+        states.apply(current -> current.remove(toDocId(savedSearchId)));
+    }
+
+    /**
+     * Saved searches whose filters all accept the estate, in id order.
+     */
+    public List<IndexedSavedSearch> matching(IndexedEstate estate) {
+        return states.read(current -> {
+            RoaringBitmap matches = current.matching(estate);
+            List<IndexedSavedSearch> result = new ArrayList<>(matches.getCardinality());
+            matches.forEach((int docId) -> result.add(current.searches.get(docId)));
+            return result;
+        });
+    }
+
+    private static int toDocId(Long savedSearchId) {
+        return Math.toIntExact(savedSearchId);
+    }
+
+    private static final class State {
+        private final Map<Integer, IndexedSavedSearch> searches = new HashMap<>();
+        private final Map<String, RoaringBitmap> byCity = new HashMap<>();
+        private final Map<EstateType, RoaringBitmap> byType = new EnumMap<>(EstateType.class);
+        private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+        private final RoaringBitmap anyCity = new RoaringBitmap();
+        private final RoaringBitmap anyType = new RoaringBitmap();
+        private final RoaringBitmap anyCategory = new RoaringBitmap();
+        private PriceIntervals byPrice = new PriceIntervals();
+
+        static State build(Stream<IndexedSavedSearch> searches) {
+            State state = new State();
+            searches.forEach(search -> {
+                int docId = toDocId(search.getId());
+                if (state.searches.put(docId, search) == null) {
+                    state.addToPostings(docId, search);
+                }
+            });
+
+            int size = state.searches.size();
+            int[] ids = new int[size];
+            Double[] mins = new Double[size];
+            Double[] maxs = new Double[size];
+            int i = 0;
+            for (Map.Entry<Integer, IndexedSavedSearch> entry : state.searches.entrySet()) {
+                ids[i] = entry.getKey();
+                mins[i] = entry.getValue().getMinPrice();
+                maxs[i] = entry.getValue().getMaxPrice();
+                i++;
+            }
+            state.byPrice = PriceIntervals.build(ids, mins, maxs);
+            return state;
+        }
+
+        void add(IndexedSavedSearch search) {
+            int docId = toDocId(search.getId());
+            searches.put(docId, search);
+            addToPostings(docId, search);
+            byPrice.add(docId, search.getMinPrice(), search.getMaxPrice());
+        }
+
+        void remove(int docId) {
+            IndexedSavedSearch search = searches.remove(docId);
+            if (search == null) {
+                return;
+            }
+            postings(byCity, anyCity, search.getCityKey()).remove(docId);
+            postings(byType, anyType, search.getType()).remove(docId);
+            postings(byCategory, anyCategory, search.getCategoryId()).remove(docId);
+            byPrice.remove(docId);
+        }
+
+        RoaringBitmap matching(IndexedEstate estate) {
+            return FastAggregation.and(
+                    accepting(byCity, anyCity, estate.getCityKey()),
+                    accepting(byType, anyType, estate.getType()),
+                    accepting(byCategory, anyCategory, estate.getCategoryId()),
+                    byPrice.containing(estate.getPrice()));
+        }
+
+        private void addToPostings(int docId, IndexedSavedSearch search) {
+            postings(byCity, anyCity, search.getCityKey()).add(docId);
+            postings(byType, anyType, search.getType()).add(docId);
+            postings(byCategory, anyCategory, search.getCategoryId()).add(docId);
+        }
+
+        private static <K> RoaringBitmap postings(Map<K, RoaringBitmap> byValue, RoaringBitmap any, K value) {
+            return value == null ? any : byValue.computeIfAbsent(value, key -> new RoaringBitmap());
+        }
+
+        private static <K> RoaringBitmap accepting(Map<K, RoaringBitmap> byValue, RoaringBitmap any, K value) {
+            RoaringBitmap exact = value == null ? null : byValue.get(value);
+            return exact == null ? any : RoaringBitmap.or(exact, any);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.realestate.realestate.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Feature vectors of APPROVED estates in parallel primitive arrays, scored
+ * against one estate with a linear pass and a bounded top-k heap. Price,
+ * city, category and type are compared directly; characteristics are interned
+ * as sorted "name=value" codes and compared by their Jaccard overlap.
+ */
+@Component
+public class SimilarEstateIndex {
+
+    static final double PRICE_WEIGHT = 0.30;
+    static final double CITY_WEIGHT = 0.25;
+    static final double CATEGORY_WEIGHT = 0.15;
+    static final double TYPE_WEIGHT = 0.10;
+    static final double CHARACTERISTICS_WEIGHT = 0.20;
+
+    // prices twice as high (or half) as the reference no longer count as close
+    private static final double PRICE_LOG_RANGE = Math.log(2);
+    private static final int[] NO_FEATURES = new int[0];
+    // estates without a city key never share a city
+    private static final int NO_CITY = -1;
+
+    private final RebuildableState<State> states = new RebuildableState<>(new State());
+
+    public boolean isReady() {
+        return states.isReady();
+    }
+
+    public int size() {
+        return states.read(current -> current.size);
+    }
+
+    /**
+     * Characteristics are read first and kept as interned codes, so only the
+     * estates themselves are held while the new arrays are built.
+     */
+    public int rebuild(Stream<IndexedEstate> estates, Stream<IndexedCharacteristic> characteristics) {
+        return states.rebuild(() -> State.build(estates, characteristics), fresh -> fresh.size);
+    }
+
+    public void upsert(IndexedEstate estate, List<IndexedCharacteristic> characteristics) {
+        states.apply(current -> current.put(estate, characteristics));
+    }
+
+    public void remove(Long estateId) {
+        states.apply(current -> current.remove(estateId));
+    }
+
+    /**
+     * Ids of the {@code limit} estates most similar to {@code estateId}, best
+     * first; empty when the estate is not in the index.
+     */
+    public Optional<List<Long>> similarTo(Long estateId, int limit) {
+        return states.read(current -> {
+            Integer slot = current.slots.get(estateId);
+            if (slot == null) {
+                return Optional.<List<Long>>empty();
+            }
+            return Optional.of(current.topSimilar(slot, limit));
+        });
+    }
+
+    private static final class State {
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private final Map<String, Integer> cityCodes = new HashMap<>();
+        private final Map<String, Integer> featureCodes = new HashMap<>();
+
+        private long[] ids = new long[16];
+        private double[] logPrices = new double[16];
+        private int[] cities = new int[16];
+        private long[] categories = new long[16];
+        private int[] types = new int[16];
+        private int[][] features = new int[16][];
+        private int size;
+
+        static State build(Stream<IndexedEstate> estates, Stream<IndexedCharacteristic> characteristics) {
+            State state = new State();
+            Map<Long, int[]> featuresById = new HashMap<>();
+            characteristics.forEach(characteristic -> featuresById.merge(characteristic.getEstateId(),
+                    new int[] { state.featureCode(characteristic) }, State::concat));
+            estates.forEach(estate -> {
+                int[] codes = featuresById.remove(estate.getId());
+                state.put(estate, codes == null ? NO_FEATURES : sortedDistinct(codes));
+            });
+            return state;
+        }
+
+        void put(IndexedEstate estate, List<IndexedCharacteristic> characteristics) {
+            int[] codes = new int[characteristics.size()];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = featureCode(characteristics.get(i));
+            }
+            put(estate, sortedDistinct(codes));
+        }
+
+        private void put(IndexedEstate estate, int[] featureCodes) {
+            Integer slot = slots.get(estate.getId());
+            if (slot == null) {
+                if (size == ids.length) {
+                    grow();
+                }
+                slot = size++;
+                slots.put(estate.getId(), slot);
+            }
+            ids[slot] = estate.getId();
+            logPrices[slot] = Math.log(Math.max(estate.getPrice(), 1));
+            cities[slot] = estate.getCityKey() == null
+                    ? NO_CITY
+                    : cityCodes.computeIfAbsent(estate.getCityKey(), key -> cityCodes.size());
+            categories[slot] = estate.getCategoryId() == null ? -1 : estate.getCategoryId();
+            types[slot] = estate.getType() == null ? -1 : estate.getType().ordinal();
+            features[slot] = featureCodes;
+        }
+
+        void remove(Long estateId) {
+            Integer slot = slots.remove(estateId);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                logPrices[slot] = logPrices[last];
+                cities[slot] = cities[last];
+                categories[slot] = categories[last];
+                types[slot] = types[last];
+                features[slot] = features[last];
+                slots.put(ids[slot], slot);
+            }
+            features[last] = null;
+        }
+
+        List<Long> topSimilar(int reference, int limit) {
+            TopK top = new TopK(limit);
+            double referencePrice = logPrices[reference];
+            int referenceCity = cities[reference];
+            long referenceCategory = categories[reference];
+            int referenceType = types[reference];
+            int[] referenceFeatures = features[reference];
+
+            for (int slot = 0; slot < size; slot++) {
+                if (slot == reference) {
+                    continue;
+                }
+                double score = 0;
+                if (referenceCity != NO_CITY && cities[slot] == referenceCity) {
+                    score += CITY_WEIGHT;
+                }
+                if (categories[slot] == referenceCategory) {
+                    score += CATEGORY_WEIGHT;
+                }
+                if (types[slot] == referenceType) {
+                    score += TYPE_WEIGHT;
+                }
+                double priceDistance = Math.abs(logPrices[slot] - referencePrice);
+                if (priceDistance < PRICE_LOG_RANGE) {
+                    score += PRICE_WEIGHT * (1 - priceDistance / PRICE_LOG_RANGE);
+                }
+                // characteristics can add at most their weight, skip the merge
+                // when even a perfect overlap would not enter the heap
+                if (referenceFeatures.length > 0 && !top.rejects(score + CHARACTERISTICS_WEIGHT, ids[slot])) {
+                    score += CHARACTERISTICS_WEIGHT * jaccard(referenceFeatures, features[slot]);
+                }
+                top.offer(score, ids[slot]);
+            }
+            return top.drainBestFirst();
+        }
+
+        private int featureCode(IndexedCharacteristic characteristic) {
+            String key = normalize(characteristic.getName()) + '=' + normalize(characteristic.getValue());
+            return featureCodes.computeIfAbsent(key, k -> featureCodes.size());
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            logPrices = Arrays.copyOf(logPrices, capacity);
+            cities = Arrays.copyOf(cities, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            types = Arrays.copyOf(types, capacity);
+            features = Arrays.copyOf(features, capacity);
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+
+        private static int[] concat(int[] a, int[] b) {
+            int[] joined = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, joined, a.length, b.length);
+            return joined;
+        }
+
+        private static int[] sortedDistinct(int[] codes) {
+            if (codes.length == 0) {
+                return NO_FEATURES;
+            }
+            Arrays.sort(codes);
+            int distinct = 1;
+            for (int i = 1; i < codes.length; i++) {
+                if (codes[i] != codes[distinct - 1]) {
+                    codes[distinct++] = codes[i];
+                }
+            }
+            return distinct == codes.length ? codes : Arrays.copyOf(codes, distinct);
+        }
+
+        private static double jaccard(int[] a, int[] b) {
+            if (b.length == 0) {
+                return 0;
+            }
+            int shared = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    shared++;
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return (double) shared / (a.length + b.length - shared);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.realestate.realestate.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Doc ids kept sorted by a numeric key (ties broken by id) in parallel
+ * primitive arrays. Supports range lookups as bitmaps and ordered walks
+ * over a filter bitmap for paging.
+ */
+final class SortedColumn {
+
+    // a filter holding less than 1/16 of the column is sorted on its own instead of walking the column
+    private static final int SELECTIVE_RATIO = 16;
+
+    private double[] keys;
+    private int[] ids;
+    private int size;
+
+    SortedColumn() {
+        this(new double[16], new int[16], 0);
+    }
+
+    private SortedColumn(double[] keys, int[] ids, int size) {
+        this.keys = keys;
+        this.ids = ids;
+        this.size = size;
+    }
+
+    static SortedColumn build(double[] keys, int[] ids, int size) {
+        int[] order = IntStream.range(0, size)
+                .boxed()
+                .sorted((a, b) -> compare(keys[a], ids[a], keys[b], ids[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        double[] sortedKeys = new double[Math.max(16, size)];
+        int[] sortedIds = new int[Math.max(16, size)];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedIds[i] = ids[order[i]];
+        }
+        return new SortedColumn(sortedKeys, sortedIds, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(double key, int id) {
+        int pos = search(key, id);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+        System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+        keys[pos] = key;
+        ids[pos] = id;
+        size++;
+    }
+
+    void remove(double key, int id) {
+        int pos = search(key, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(keys, pos + 1, keys, pos, size - pos - 1);
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    RoaringBitmap range(Double min, Double max) {
+        int from = min == null ? 0 : lowerBound(min);
+        int to = max == null ? size : upperBound(max);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (from < to) {
+            bitmap.addN(ids, from, to - from);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns one page of the filter's ids in column order. The filter may
+     * only hold ids of this column, and {@code keyOf} gives their keys.
+     */
+    List<Long> collect(RoaringBitmap filter, IntToDoubleFunction keyOf, boolean ascending, long offset,
+            int limit) {
+        long matches = filter.getLongCardinality();
+        if (offset >= matches) {
+            return List.of();
+        }
+        if (matches == size) {
+            return slice(ascending, offset, limit);
+        }
+        if (matches * SELECTIVE_RATIO < size) {
+            int[] filterIds = filter.toArray();
+            double[] filterKeys = new double[filterIds.length];
+            for (int i = 0; i < filterIds.length; i++) {
+                filterKeys[i] = keyOf.applyAsDouble(filterIds[i]);
+            }
+            return build(filterKeys, filterIds, filterIds.length).slice(ascending, offset, limit);
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        long skipped = 0;
+        for (int i = 0; i < size && result.size() < limit; i++) {
+            int id = ids[ascending ? i : size - 1 - i];
+            if (!filter.contains(id)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            result.add((long) id);
+        }
+        return result;
+    }
+
+    // offset is below size
+    private List<Long> slice(boolean ascending, long offset, int limit) {
+        int end = (int) Math.min(size, offset + limit);
+        List<Long> result = new ArrayList<>(end - (int) offset);
+        for (int i = (int) offset; i < end; i++) {
+            result.add((long) ids[ascending ? i : size - 1 - i]);
+        }
+        return result;
+    }
+
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int search(double key, int id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(keys[mid], ids[mid], key, id);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int compare(double keyA, int idA, double keyB, int idB) {
+        int cmp = Double.compare(keyA, keyB);
+        return cmp != 0 ? cmp : Integer.compare(idA, idB);
+    }
+}
@@ -0,0 +1,90 @@
+package com.realestate.realestate.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Min-heap of the best {@code k} (score, id) pairs seen so far; equal
+ * scores prefer the lower id so results are stable.
+ */
+final class TopK {
+    private final double[] scores;
+    private final long[] ids;
+    private int size;
+
+    TopK(int k) {
+        this.scores = new double[k];
+        this.ids = new long[k];
+    }
+
+    boolean rejects(double score, long id) {
+        return size == scores.length && !better(score, id, scores[0], ids[0]);
+    }
+
+    void offer(double score, long id) {
+        if (size < scores.length) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (better(score, id, scores[0], ids[0])) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    List<Long> drainBestFirst() {
+        Long[] best = new Long[size];
+        while (size > 0) {
+            best[size - 1] = ids[0];
+            size--;
+            scores[0] = scores[size];
+            ids[0] = ids[size];
+            siftDown(0);
+        }
+        return Arrays.asList(best);
+    }
+
+    private static boolean better(double score, long id, double otherScore, long otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(scores[parent], ids[parent], scores[index], ids[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && better(scores[worst], ids[worst], scores[left], ids[left])) {
+                worst = left;
+            }
+            if (right < size && better(scores[worst], ids[worst], scores[right], ids[right])) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+}
@@ -3,18 +3,22 @@ package com.realestate.realestate.service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.realestate.realestate.dto.appointment.AppointmentResponse;
 import com.realestate.realestate.dto.appointment.CreateAppointmentRequest;
+import com.realestate.realestate.dto.common.SliceResponse;
 import com.realestate.realestate.dto.user.UserBasicResponse;
 import com.realestate.realestate.entity.Appointment;
 import com.realestate.realestate.entity.Estate;
 import com.realestate.realestate.entity.Seller;
 import com.realestate.realestate.entity.User;
 import com.realestate.realestate.enums.AppointmentStatus;
+import com.realestate.realestate.enums.CountMode;
+import com.realestate.realestate.enums.EngagementType;
 import com.realestate.realestate.enums.EstateStatus;
 import com.realestate.realestate.exception.appointment.AppointmentConflictException;
 import com.realestate.realestate.exception.appointment.InvalidAppointmentStatusException;
@@ -37,6 +41,8 @@ public class AppointmentService {
     private final EstateRepository estateRepository;
     private final SecurityUtil securityUtil;
     private final EstateService estateService;
+    private final ListingCountService listingCountService;
+    private final TrendingService trendingService;
 
     @Transactional
     public AppointmentResponse createAppointment(CreateAppointmentRequest request) {
@@ -67,21 +73,28 @@ public class AppointmentService {
                 .build();
 
         Appointment savedAppointment = appointmentRepository.save(appointment);
+        trendingService.record(estate.getId(), EngagementType.APPOINTMENT);
 
         log.info("Appointment created successfully with id: {}", savedAppointment.getId());
         return buildAppointmentResponse(savedAppointment);
     }
 
     @Transactional(readOnly = true)
-    public Page<AppointmentResponse> getMyAppointmentRequests(int page, int size) {
+    public SliceResponse<AppointmentResponse> getMyAppointmentRequests(int page, int size, CountMode countMode) {
         log.info("Fetching appointment requests for current user, page: {}, size: {}", page, size);
         User client = securityUtil.getCurrentUser();
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("appointmentDate").descending());
 
-        Page<Appointment> appointments = appointmentRepository.findByClientOrderByAppointmentDateDesc(client, pageable);
+        String countKey = "appointments:client:" + client.getId();
+        if (countMode == CountMode.EXACT) {
+            Page<Appointment> appointments = appointmentRepository.findByClientOrderByAppointmentDateDesc(client, pageable);
+            return listingCountService.exact(countKey, appointments.map(this::buildAppointmentResponse));
+        }
 
-        return appointments.map(this::buildAppointmentResponse);
+        Slice<Appointment> appointments = appointmentRepository.findSliceByClientOrderByAppointmentDateDesc(client, pageable);
+        return listingCountService.withoutCount(appointments.map(this::buildAppointmentResponse), countMode, countKey,
+                "SELECT 1 FROM appointments WHERE client_id = ?", client.getId());
     }
 
     @Transactional
@@ -106,28 +119,41 @@ public class AppointmentService {
     }
 
     @Transactional(readOnly = true)
-    public Page<AppointmentResponse> getMySellerAppointments(int page, int size) {
+    public SliceResponse<AppointmentResponse> getMySellerAppointments(int page, int size, CountMode countMode) {
         log.info("Fetching appointments for current seller, page: {}, size: {}", page, size);
         Seller seller = securityUtil.getCurrentSeller();
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("appointmentDate").descending());
 
-        Page<Appointment> appointments = appointmentRepository.findBySellerOrderByAppointmentDateDesc(seller, pageable);
+        String countKey = "appointments:seller:" + seller.getId();
+        if (countMode == CountMode.EXACT) {
+            Page<Appointment> appointments = appointmentRepository.findBySellerOrderByAppointmentDateDesc(seller, pageable);
+            return listingCountService.exact(countKey, appointments.map(this::buildAppointmentResponse));
+        }
 
-        return appointments.map(this::buildAppointmentResponse);
+        Slice<Appointment> appointments = appointmentRepository.findSliceBySellerOrderByAppointmentDateDesc(seller, pageable);
+        return listingCountService.withoutCount(appointments.map(this::buildAppointmentResponse), countMode, countKey,
+                "SELECT 1 FROM appointments WHERE seller_id = ?", seller.getId());
     }
 
     @Transactional(readOnly = true)
-    public Page<AppointmentResponse> getPendingAppointments(int page, int size) {
+    public SliceResponse<AppointmentResponse> getPendingAppointments(int page, int size, CountMode countMode) {
         log.info("Fetching pending appointments for current seller, page: {}, size: {}", page, size);
         Seller seller = securityUtil.getCurrentSeller();
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("appointmentDate").ascending());
 
-        Page<Appointment> appointments = appointmentRepository.findBySellerAndStatusOrderByAppointmentDateAsc(
-                seller, AppointmentStatus.PENDING, pageable);
+        String countKey = "appointments:seller:" + seller.getId() + ":pending";
+        if (countMode == CountMode.EXACT) {
+            Page<Appointment> appointments = appointmentRepository.findBySellerAndStatusOrderByAppointmentDateAsc(
+                    seller, AppointmentStatus.PENDING, pageable);
+            return listingCountService.exact(countKey, appointments.map(this::buildAppointmentResponse));
+        }
 
-        return appointments.map(this::buildAppointmentResponse);
+        Slice<Appointment> appointments = appointmentRepository.findSliceBySellerAndStatusOrderByAppointmentDateAsc(
+                seller, AppointmentStatus.PENDING, pageable);
+        return listingCountService.withoutCount(appointments.map(this::buildAppointmentResponse), countMode, countKey,
+                "SELECT 1 FROM appointments WHERE seller_id = ? AND status = 'PENDING'", seller.getId());
     }
 
     @Transactional
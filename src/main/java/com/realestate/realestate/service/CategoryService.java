@@ -1,13 +1,14 @@
 package com.realestate.realestate.service;
 
-import java.util.List;
-
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.realestate.realestate.cache.CategoryCatalogue;
 import com.realestate.realestate.dto.category.CategoryRequest;
 import com.realestate.realestate.dto.category.CategoryResponse;
 import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.event.CategoryCreatedEvent;
 import com.realestate.realestate.repository.CategoryRepository;
 
 import lombok.AllArgsConstructor;
@@ -16,6 +17,8 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CategoryCatalogue categoryCatalogue;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategoryResponse createCategory(CategoryRequest request) {
@@ -25,6 +28,7 @@ public class CategoryService {
                 .build();
         
         Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryCreatedEvent(saved.getId()));
         return CategoryResponse.builder()
                 .id(saved.getId())
                 .name(saved.getName())
@@ -32,15 +36,7 @@ public class CategoryService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public List<CategoryResponse> getAllCategories() {
-       return categoryRepository.findAll()
-               .stream()
-               .map(cat -> CategoryResponse.builder()
-                       .id(cat.getId())
-                       .name(cat.getName())
-                       .description(cat.getDescription())
-                       .build())
-               .toList();
+    public CategoryCatalogue.Snapshot getCatalogue() {
+        return categoryCatalogue.get();
     }
 }
@@ -0,0 +1,58 @@
+package com.realestate.realestate.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realestate.realestate.dto.estate.CitySuggestion;
+import com.realestate.realestate.exception.common.BadRequestException;
+import com.realestate.realestate.exception.common.ServiceUnavailableException;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.CitySuggestIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CitySuggestService {
+
+    private final EstateRepository estateRepository;
+    private final CitySuggestIndex citySuggestIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // a new city only shows up here after the next rebuild
+    @Scheduled(fixedDelayString = "${app.cities.rebuild-interval:PT10M}",
+            initialDelayString = "${app.cities.rebuild-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        int cities = citySuggestIndex.rebuild(estateRepository.countApprovedByCity());
+        log.info("City suggestions rebuilt for {} cities in {} ms", cities, System.currentTimeMillis() - start);
+        return cities;
+    }
+
+    public List<CitySuggestion> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > CitySuggestIndex.MAX_SUGGESTIONS) {
+            throw new BadRequestException("Limit must be between 1 and " + CitySuggestIndex.MAX_SUGGESTIONS);
+        }
+        return citySuggestIndex.suggest(prefix, limit)
+                .orElseThrow(() -> new ServiceUnavailableException(
+                        "City suggestions are still loading, please retry shortly"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.realestate.realestate.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.repository.EstateRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes every approved estate as one JSON line. Estates are read through a
+ * forward-only cursor in chunks; each chunk gets its images and characteristics
+ * in two queries, is written and flushed, and is then cleared from the
+ * persistence context, so memory does not grow with the catalogue.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EstateExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final byte[] NEWLINE = { '\n' };
+
+    private final EstateRepository estateRepository;
+    private final EstateService estateService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportApproved(OutputStream out) throws IOException {
+        log.info("Exporting approved estates");
+        long start = System.currentTimeMillis();
+        long exported = 0;
+
+        try (Stream<Estate> estates = estateRepository.streamApprovedForExport()) {
+            Iterator<Estate> iterator = estates.iterator();
+            List<Estate> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    exported += writeChunk(chunk, out);
+                }
+            }
+            exported += writeChunk(chunk, out);
+        }
+
+        log.info("Exported {} estates in {} ms", exported, System.currentTimeMillis() - start);
+        return exported;
+    }
+
+    // runs before the cursor reads the next row, so the next chunk starts in an empty persistence context
+    private int writeChunk(List<Estate> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        estateRepository.fetchImages(chunk);
+        estateRepository.fetchCharacteristics(chunk);
+        for (Estate estate : chunk) {
+            out.write(objectMapper.writeValueAsBytes(estateService.buildEstateResponse(estate)));
+            out.write(NEWLINE);
+        }
+        out.flush();
+
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+}
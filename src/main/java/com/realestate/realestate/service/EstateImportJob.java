@@ -0,0 +1,103 @@
+package com.realestate.realestate.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.realestate.realestate.dto.estate.CreateEstateRequest;
+import com.realestate.realestate.dto.estate.EstateImportResponse;
+import com.realestate.realestate.enums.ImportJobStatus;
+
+/**
+ * State of one bulk import. Rows that passed validation wait in
+ * {@code pendingRows} until the worker inserts them; results are kept per row.
+ */
+class EstateImportJob {
+
+    record Row(int index, CreateEstateRequest request) {
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long sellerId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final EstateImportResponse.RowResult[] results;
+    private List<Row> pendingRows = new ArrayList<>();
+    private ImportJobStatus status = ImportJobStatus.QUEUED;
+    private LocalDateTime finishedAt;
+    private String error;
+    private int imported;
+    private int failed;
+
+    EstateImportJob(Long sellerId, int totalRows) {
+        this.sellerId = sellerId;
+        this.results = new EstateImportResponse.RowResult[totalRows];
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Long getSellerId() {
+        return sellerId;
+    }
+
+    synchronized void addPending(int index, CreateEstateRequest request) {
+        pendingRows.add(new Row(index, request));
+    }
+
+    synchronized List<Row> start() {
+        status = ImportJobStatus.RUNNING;
+        List<Row> rows = pendingRows;
+        pendingRows = List.of();
+        return rows;
+    }
+
+    synchronized void rowImported(int index, Long estateId) {
+        results[index] = EstateImportResponse.RowResult.builder()
+                .row(index + 1)
+                .estateId(estateId)
+                .build();
+        imported++;
+    }
+
+    synchronized void rowFailed(int index, List<String> errors) {
+        results[index] = EstateImportResponse.RowResult.builder()
+                .row(index + 1)
+                .errors(errors)
+                .build();
+        failed++;
+    }
+
+    synchronized void finish() {
+        status = ImportJobStatus.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized void fail(String message) {
+        status = ImportJobStatus.FAILED;
+        error = message;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+
+    synchronized EstateImportResponse toResponse() {
+        return EstateImportResponse.builder()
+                .jobId(id)
+                .status(status)
+                .totalRows(results.length)
+                .processedRows(imported + failed)
+                .importedRows(imported)
+                .failedRows(failed)
+                .error(error)
+                .createdAt(createdAt)
+                .finishedAt(finishedAt)
+                .rows(Arrays.stream(results).filter(Objects::nonNull).toList())
+                .build();
+    }
+}
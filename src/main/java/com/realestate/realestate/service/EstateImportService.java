@@ -0,0 +1,311 @@
+package com.realestate.realestate.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.realestate.dto.estate.CreateEstateRequest;
+import com.realestate.realestate.dto.estate.EstateImportResponse;
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Seller;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.exception.common.BadRequestException;
+import com.realestate.realestate.exception.common.ResourceNotFoundException;
+import com.realestate.realestate.repository.CategoryRepository;
+import com.realestate.realestate.util.SecurityUtil;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk creation of estates from a JSON array or a CSV file. Rows are parsed
+ * and validated up front (categories are resolved with one query), then the
+ * valid ones are inserted by {@link EstateImportWorker}: inline for small
+ * imports, in the background for large ones. Jobs are kept in memory for a
+ * day so their status can be polled.
+ *
+ * <p>CSV files need a header row with the CreateEstateRequest field names.
+ * {@code imageUrls} holds URLs separated by {@code |} and
+ * {@code characteristics} holds {@code name=value} pairs separated by {@code |}.
+ */
+@Service
+@Slf4j
+public class EstateImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "name", "description", "price", "type", "categoryId", "city", "address");
+    private static final int MAX_URL_LENGTH = 255;
+
+    private final SecurityUtil securityUtil;
+    private final CategoryRepository categoryRepository;
+    private final EstateImportWorker importWorker;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int maxRows;
+    private final int syncMaxRows;
+    private final Cache<String, EstateImportJob> jobs;
+
+    public EstateImportService(
+            SecurityUtil securityUtil,
+            CategoryRepository categoryRepository,
+            EstateImportWorker importWorker,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${app.import.max-rows:10000}") int maxRows,
+            @Value("${app.import.sync-max-rows:100}") int syncMaxRows,
+            @Value("${app.import.job-retention:PT24H}") Duration jobRetention) {
+        this.securityUtil = securityUtil;
+        this.categoryRepository = categoryRepository;
+        this.importWorker = importWorker;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.maxRows = maxRows;
+        this.syncMaxRows = syncMaxRows;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobRetention)
+                .build();
+    }
+
+    public EstateImportResponse importEstates(List<CreateEstateRequest> requests) {
+        List<ParsedRow> rows = new ArrayList<>();
+        if (requests != null) {
+            requests.forEach(request -> rows.add(new ParsedRow(request, List.of())));
+        }
+        return submit(rows);
+    }
+
+    public EstateImportResponse importFile(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Import file is empty");
+        }
+        String filename = Objects.requireNonNullElse(file.getOriginalFilename(), "").toLowerCase();
+        String contentType = Objects.requireNonNullElse(file.getContentType(), "");
+
+        try (InputStream in = file.getInputStream()) {
+            if (filename.endsWith(".json") || contentType.contains("json")) {
+                List<CreateEstateRequest> requests = objectMapper.readValue(in,
+                        new TypeReference<List<CreateEstateRequest>>() {
+                        });
+                return importEstates(requests);
+            }
+            return submit(parseCsv(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException ex) {
+            throw new BadRequestException("Import file could not be read: " + ex.getMessage());
+        }
+    }
+
+    public EstateImportResponse getJob(String jobId) {
+        Seller seller = securityUtil.getCurrentSeller();
+        EstateImportJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.getSellerId().equals(seller.getId())) {
+            throw new ResourceNotFoundException("Import job not found with id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private EstateImportResponse submit(List<ParsedRow> rows) {
+        if (rows.isEmpty()) {
+            throw new BadRequestException("Import contains no rows");
+        }
+        if (rows.size() > maxRows) {
+            throw new BadRequestException("Import is limited to " + maxRows + " rows");
+        }
+
+        Seller seller = securityUtil.getCurrentSeller();
+        EstateImportJob job = new EstateImportJob(seller.getId(), rows.size());
+        Set<Long> categoryIds = existingCategoryIds(rows);
+
+        for (int i = 0; i < rows.size(); i++) {
+            ParsedRow row = rows.get(i);
+            List<String> errors = validate(row, categoryIds);
+            if (errors.isEmpty()) {
+                job.addPending(i, row.request());
+            } else {
+                job.rowFailed(i, errors);
+            }
+        }
+        jobs.put(job.getId(), job);
+        log.info("Import job {} for seller {} accepted with {} rows", job.getId(), seller.getId(), rows.size());
+
+        if (rows.size() <= syncMaxRows) {
+            importWorker.run(job);
+        } else {
+            importWorker.runAsync(job);
+        }
+        return job.toResponse();
+    }
+
+    private Set<Long> existingCategoryIds(List<ParsedRow> rows) {
+        Set<Long> requested = rows.stream()
+                .map(ParsedRow::request)
+                .filter(Objects::nonNull)
+                .map(CreateEstateRequest::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return categoryRepository.findAllById(requested).stream()
+                .map(Category::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private List<String> validate(ParsedRow row, Set<Long> categoryIds) {
+        List<String> errors = new ArrayList<>(row.errors());
+        CreateEstateRequest request = row.request();
+        if (request == null) {
+            errors.add("Row is empty");
+            return errors;
+        }
+
+        for (ConstraintViolation<CreateEstateRequest> violation : validator.validate(request)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (request.getCharacteristics() != null) {
+            for (CreateEstateRequest.CharacteristicRequest characteristic : request.getCharacteristics()) {
+                if (characteristic == null) {
+                    errors.add("characteristics: entries must not be empty");
+                    continue;
+                }
+                validator.validate(characteristic).forEach(violation -> errors.add(
+                        "characteristics." + violation.getPropertyPath() + ": " + violation.getMessage()));
+            }
+        }
+        if ((request.getLatitude() == null) != (request.getLongitude() == null)) {
+            errors.add("Latitude and longitude must be provided together");
+        }
+        if (request.getCategoryId() != null && !categoryIds.contains(request.getCategoryId())) {
+            errors.add("Category not found with id: " + request.getCategoryId());
+        }
+        if (request.getImageUrls() != null) {
+            for (String url : request.getImageUrls()) {
+                if (url == null || url.isBlank() || url.length() > MAX_URL_LENGTH) {
+                    errors.add("imageUrls: each URL must be present and at most " + MAX_URL_LENGTH + " characters");
+                    break;
+                }
+            }
+        }
+        return errors;
+    }
+
+    private List<ParsedRow> parseCsv(Reader reader) throws IOException {
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .setIgnoreEmptyLines(true)
+                .setTrim(true)
+                .get();
+
+        try (CSVParser parser = CSVParser.parse(reader, format)) {
+            List<String> missing = REQUIRED_COLUMNS.stream()
+                    .filter(column -> !parser.getHeaderMap().containsKey(column))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new BadRequestException("CSV header is missing columns: " + String.join(", ", missing));
+            }
+
+            List<ParsedRow> rows = new ArrayList<>();
+            for (CSVRecord record : parser) {
+                if (rows.size() == maxRows) {
+                    throw new BadRequestException("Import is limited to " + maxRows + " rows");
+                }
+                rows.add(parseRecord(record));
+            }
+            return rows;
+        }
+    }
+
+    private static ParsedRow parseRecord(CSVRecord record) {
+        List<String> errors = new ArrayList<>();
+        CreateEstateRequest request = CreateEstateRequest.builder()
+                .name(value(record, "name"))
+                .description(value(record, "description"))
+                .price(parse(record, "price", Double::valueOf, errors))
+                .type(parse(record, "type", value -> EstateType.valueOf(value.toUpperCase()), errors))
+                .categoryId(parse(record, "categoryId", Long::valueOf, errors))
+                .city(value(record, "city"))
+                .address(value(record, "address"))
+                .latitude(parse(record, "latitude", Double::valueOf, errors))
+                .longitude(parse(record, "longitude", Double::valueOf, errors))
+                .imageUrls(split(value(record, "imageUrls")))
+                .characteristics(parseCharacteristics(value(record, "characteristics"), errors))
+                .build();
+        return new ParsedRow(request, errors);
+    }
+
+    private static <T> T parse(CSVRecord record, String column,
+            Function<String, T> parser, List<String> errors) {
+        String value = value(record, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException ex) {
+            errors.add(column + ": invalid value '" + value + "'");
+            return null;
+        }
+    }
+
+    private static List<CreateEstateRequest.CharacteristicRequest> parseCharacteristics(String value,
+            List<String> errors) {
+        List<String> pairs = split(value);
+        if (pairs == null) {
+            return null;
+        }
+        List<CreateEstateRequest.CharacteristicRequest> characteristics = new ArrayList<>();
+        for (String pair : pairs) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) {
+                errors.add("characteristics: expected name=value but got '" + pair + "'");
+                continue;
+            }
+            characteristics.add(CreateEstateRequest.CharacteristicRequest.builder()
+                    .name(pair.substring(0, separator).trim())
+                    .value(pair.substring(separator + 1).trim())
+                    .build());
+        }
+        return characteristics;
+    }
+
+    private static List<String> split(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(value.split("\\|"))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+
+    private static String value(CSVRecord record, String column) {
+        if (!record.isSet(column)) {
+            return null;
+        }
+        String value = record.get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    private record ParsedRow(CreateEstateRequest request, List<String> errors) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.realestate.realestate.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realestate.realestate.dto.estate.CreateEstateRequest;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.search.IndexedEstate;
+import com.realestate.realestate.util.EstateAttributes;
+import com.realestate.realestate.util.TextFolding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inserts the validated rows of an import job with JDBC batches, one
+ * transaction per chunk, so a failing chunk does not undo the rest.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EstateImportWorker {
+
+    private static final int CHUNK_SIZE = 500;
+
+    // ids come from the entity sequences; a nextval taken here is the top of a
+    // block of 50 that Hibernate's pooled optimizer will never hand out
+    private static final String INSERT_ESTATE = "INSERT INTO estates (id, name, description, price, type, " +
+            "category_id, seller_id, city, city_key, address, latitude, longitude, status, main_image_url, " +
+            "bedrooms, bathrooms, area, created_at, updated_at) " +
+            "VALUES (nextval('estates_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IMAGE =
+            "INSERT INTO estate_images (id, estate_id, s3url) VALUES (nextval('estate_images_seq'), ?, ?)";
+    private static final String INSERT_CHARACTERISTIC = "INSERT INTO estate_characteristics (id, estate_id, name, " +
+            "value) VALUES (nextval('estate_characteristics_seq'), ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Async
+    public void runAsync(EstateImportJob job) {
+        run(job);
+    }
+
+    public void run(EstateImportJob job) {
+        List<EstateImportJob.Row> rows = job.start();
+        log.info("Import job {} inserting {} rows", job.getId(), rows.size());
+        long start = System.currentTimeMillis();
+
+        try {
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                List<EstateImportJob.Row> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> insertChunk(job.getSellerId(), chunk));
+                    for (int i = 0; i < chunk.size(); i++) {
+                        job.rowImported(chunk.get(i).index(), ids.get(i));
+                    }
+                } catch (DataAccessException ex) {
+                    String message = "Could not be saved: " + NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+                    log.warn("Import job {} chunk starting at row {} failed", job.getId(), chunk.get(0).index() + 1, ex);
+                    chunk.forEach(row -> job.rowFailed(row.index(), List.of(message)));
+                }
+            }
+            job.finish();
+            log.info("Import job {} finished in {} ms", job.getId(), System.currentTimeMillis() - start);
+        } catch (RuntimeException ex) {
+            log.error("Import job {} failed", job.getId(), ex);
+            job.fail(ex.getMessage());
+        }
+    }
+
+    private List<Long> insertChunk(Long sellerId, List<EstateImportJob.Row> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_ESTATE, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CreateEstateRequest request = chunk.get(i).request();
+                        ps.setString(1, request.getName());
+                        ps.setString(2, request.getDescription());
+                        ps.setDouble(3, request.getPrice());
+                        ps.setString(4, request.getType().name());
+                        ps.setLong(5, request.getCategoryId());
+                        ps.setLong(6, sellerId);
+                        ps.setString(7, request.getCity());
+                        ps.setString(8, Objects.requireNonNullElse(TextFolding.fold(request.getCity()), ""));
+                        ps.setString(9, request.getAddress());
+                        ps.setObject(10, request.getLatitude(), Types.DOUBLE);
+                        ps.setObject(11, request.getLongitude(), Types.DOUBLE);
+                        ps.setString(12, EstateStatus.WAITING_FOR_APPROVAL.name());
+                        ps.setString(13, hasItems(request.getImageUrls()) ? request.getImageUrls().get(0) : null);
+                        EstateAttributes attributes = EstateAttributes.from(request.getCharacteristics());
+                        ps.setObject(14, attributes.getBedrooms(), Types.INTEGER);
+                        ps.setObject(15, attributes.getBathrooms(), Types.INTEGER);
+                        ps.setObject(16, attributes.getArea(), Types.DOUBLE);
+                        ps.setTimestamp(17, now);
+                        ps.setTimestamp(18, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                }, keys);
+
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (Map<String, Object> key : keys.getKeyList()) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+
+        List<Object[]> images = new ArrayList<>();
+        List<Object[]> characteristics = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateEstateRequest request = chunk.get(i).request();
+            Long estateId = ids.get(i);
+            if (hasItems(request.getImageUrls())) {
+                request.getImageUrls().forEach(url -> images.add(new Object[] { estateId, url }));
+            }
+            if (hasItems(request.getCharacteristics())) {
+                request.getCharacteristics().forEach(characteristic -> characteristics.add(
+                        new Object[] { estateId, characteristic.getName(), characteristic.getValue() }));
+            }
+            eventPublisher.publishEvent(new EstateChangedEvent(
+                    new IndexedEstate(estateId, request.getCity(), request.getType(), request.getCategoryId(),
+                            request.getPrice(), now.toLocalDateTime()),
+                    null, EstateStatus.WAITING_FOR_APPROVAL));
+        }
+        if (!images.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IMAGE, images);
+        }
+        if (!characteristics.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHARACTERISTIC, characteristics);
+        }
+        return ids;
+    }
+
+    private static boolean hasItems(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.realestate.realestate.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.realestate.realestate.cache.ListingPageCache;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.EstateAttributeIndex;
+import com.realestate.realestate.search.EstateLuceneIndex;
+import com.realestate.realestate.search.IndexedCharacteristic;
+import com.realestate.realestate.search.IndexedEstate;
+import com.realestate.realestate.search.SimilarEstateIndex;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EstateIndexService {
+
+    private static final int TEXT_INDEX_BATCH_SIZE = 500;
+
+    private final EstateRepository estateRepository;
+    private final EstateAttributeIndex attributeIndex;
+    private final EstateLuceneIndex luceneIndex;
+    private final SimilarEstateIndex similarIndex;
+    private final ListingPageCache listingPageCache;
+    private final EntityManager entityManager;
+
+    // one thread applies changes in commit order, off the thread that committed them
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("estate-indexer").daemon().factory());
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void indexOnStartup() {
+        reindex();
+    }
+
+    @Transactional(readOnly = true)
+    public int reindex() {
+        log.info("Rebuilding estate search indexes");
+        long start = System.currentTimeMillis();
+
+        int indexed;
+        try (Stream<IndexedEstate> estates = estateRepository.streamApprovedForIndex()) {
+            indexed = attributeIndex.rebuild(estates);
+        }
+        log.info("Estate attribute index rebuilt with {} estates in {} ms", indexed,
+                System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
+        int similarIndexed;
+        try (Stream<IndexedEstate> estates = estateRepository.streamApprovedForIndex();
+                Stream<IndexedCharacteristic> characteristics =
+                        estateRepository.streamApprovedCharacteristicsForIndex()) {
+            similarIndexed = similarIndex.rebuild(estates, characteristics);
+        }
+        log.info("Similar estate index rebuilt with {} estates in {} ms", similarIndexed,
+                System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
+        int textIndexed = luceneIndex.replaceAll(consumer -> {
+            Long lastId = 0L;
+            List<Long> ids = estateRepository.findApprovedIdsAfter(lastId, PageRequest.ofSize(TEXT_INDEX_BATCH_SIZE));
+            while (!ids.isEmpty()) {
+                consumer.accept(estateRepository.findWithCharacteristicsByIdIn(ids));
+                entityManager.clear();
+                lastId = ids.get(ids.size() - 1);
+                ids = estateRepository.findApprovedIdsAfter(lastId, PageRequest.ofSize(TEXT_INDEX_BATCH_SIZE));
+            }
+        });
+        log.info("Estate text index rebuilt with {} estates in {} ms", textIndexed,
+                System.currentTimeMillis() - start);
+
+        listingPageCache.invalidateAll();
+        return indexed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexer.shutdown();
+    }
+
+    @TransactionalEventListener
+    public void onEstateChanged(EstateChangedEvent event) {
+        indexer.execute(() -> {
+            try {
+                applyChange(event);
+            } catch (RuntimeException ex) {
+                log.error("Failed to index change of estate {} to {}; search results for it stay stale "
+                        + "until the indexes are rebuilt", event.getEstateId(), event.getStatus(), ex);
+            } finally {
+                // pages are mostly answered from the indexes, so they are dropped once the change is applied
+                listingPageCache.invalidateMatching(event);
+            }
+        });
+    }
+
+    private void applyChange(EstateChangedEvent event) {
+        if (event.isApproved()) {
+            attributeIndex.upsert(event.getEstate());
+            similarIndex.upsert(event.getEstate(), estateRepository.findCharacteristicsForIndex(event.getEstateId()));
+            luceneIndex.upsert(estateRepository.findWithCharacteristicsByIdIn(List.of(event.getEstateId())));
+        } else if (event.wasApproved() || event.getStatus() == null) {
+            attributeIndex.remove(event.getEstateId());
+            similarIndex.remove(event.getEstateId());
+            luceneIndex.remove(event.getEstateId());
+        }
+    }
+}
@@ -1,19 +1,40 @@
 package com.realestate.realestate.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.realestate.realestate.cache.EstateResponseCache;
+import com.realestate.realestate.cache.ListingPageCache;
+import com.realestate.realestate.dto.common.CursorPageResponse;
+import com.realestate.realestate.dto.common.SliceResponse;
 import com.realestate.realestate.dto.estate.CreateEstateRequest;
 import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.dto.estate.EstateBatchResponse;
+import com.realestate.realestate.dto.estate.EstateFacetsResponse;
 import com.realestate.realestate.dto.estate.EstateResponse;
+import com.realestate.realestate.dto.estate.EstateVersion;
+import com.realestate.realestate.dto.estate.FacetValue;
+import com.realestate.realestate.dto.estate.PriceRangeFacet;
 import com.realestate.realestate.dto.seller.SellerResponse;
 import com.realestate.realestate.entity.Category;
 import com.realestate.realestate.entity.Estate;
@@ -21,15 +42,28 @@ import com.realestate.realestate.entity.EstateCharacteristic;
 import com.realestate.realestate.entity.EstateImage;
 import com.realestate.realestate.entity.Seller;
 import com.realestate.realestate.entity.User;
+import com.realestate.realestate.enums.CountMode;
 import com.realestate.realestate.enums.EstateStatus;
 import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.exception.common.BadRequestException;
 import com.realestate.realestate.exception.common.ResourceNotFoundException;
+import com.realestate.realestate.exception.common.ServiceUnavailableException;
 import com.realestate.realestate.exception.estate.InvalidEstateStatusException;
 import com.realestate.realestate.exception.estate.InvalidEstateTypeException;
 import com.realestate.realestate.repository.CategoryRepository;
 import com.realestate.realestate.repository.EstateRepository;
 import com.realestate.realestate.repository.SellerRepository;
+import com.realestate.realestate.search.AttributeFilter;
+import com.realestate.realestate.search.EstateAttributeIndex;
+import com.realestate.realestate.search.EstateLuceneIndex;
+import com.realestate.realestate.search.FacetCounts;
+import com.realestate.realestate.search.CoFavoriteIndex;
+import com.realestate.realestate.search.SimilarEstateIndex;
+import com.realestate.realestate.util.EstateAttributes;
+import com.realestate.realestate.util.EstateCursor;
 import com.realestate.realestate.util.SecurityUtil;
+import com.realestate.realestate.util.TextFolding;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,40 +73,508 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class EstateService {
 
+        private static final double MAX_RADIUS_KM = 100.0;
+        private static final int MAX_BATCH_IDS = 100;
+        private static final int MAX_SIMILAR = 20;
+        private static final double[] SALE_PRICE_EDGES = { 0, 500_000, 1_000_000, 2_000_000, 3_500_000, 5_000_000,
+                        10_000_000 };
+        private static final double[] RENT_PRICE_EDGES = { 0, 5_000, 10_000, 15_000, 25_000, 40_000 };
+
         private final EstateRepository estateRepository;
         private final CategoryRepository categoryRepository;
         private final SellerRepository sellerRepository;
         private final ImageService imageService;
         private final SecurityUtil securityUtil;
+        private final EstateAttributeIndex attributeIndex;
+        private final EstateLuceneIndex luceneIndex;
+        private final SimilarEstateIndex similarIndex;
+        private final CoFavoriteIndex coFavoriteIndex;
+        private final ApplicationEventPublisher eventPublisher;
+        private final ListingCountService listingCountService;
+        private final EstateResponseCache estateResponseCache;
+        private final ListingPageCache listingPageCache;
+        private final EstateViewService estateViewService;
+
+        public SliceResponse<EstateBasicResponse> getAllEstates(int page, int size, CountMode countMode) {
+                Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+                ListingPageCache.Key key = ListingPageCache.Key.of(null, null, null, null, null, pageable, countMode);
+                return listingPageCache.get(key, () -> loadAllEstates(pageable, countMode));
+        }
+
+        private SliceResponse<EstateBasicResponse> loadAllEstates(Pageable pageable, CountMode countMode) {
+                log.info("Fetching estates - page: {}, size: {}, count: {}", pageable.getPageNumber(),
+                                pageable.getPageSize(), countMode);
+                Optional<Page<EstateBasicResponse>> indexed = searchIndexed(null, null, null, null, null,
+                                AttributeFilter.NONE, pageable);
+                if (indexed.isPresent()) {
+                        return SliceResponse.of(indexed.get());
+                }
+                String countKey = approvedCountKey(null, null, null, null, null, AttributeFilter.NONE);
+                if (countMode == CountMode.EXACT) {
+                        return listingCountService.exact(countKey,
+                                        estateRepository.findBasicByStatus(EstateStatus.APPROVED, pageable));
+                }
+                Slice<EstateBasicResponse> estates = estateRepository.findBasicSliceByStatus(EstateStatus.APPROVED,
+                                pageable);
+                return estimateApproved(estates, countMode, null, null, null, null, null, AttributeFilter.NONE);
+        }
+
+        public SliceResponse<EstateBasicResponse> searchEstates(
+                        String city,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes,
+                        Pageable pageable,
+                        CountMode countMode) {
+
+                String cityKey = TextFolding.fold(city);
+                ListingPageCache.Key key = ListingPageCache.Key.of(cityKey, type, minPrice, maxPrice, categoryId,
+                                attributes, pageable, countMode);
+                return listingPageCache.get(key, () -> loadSearchPage(cityKey, type, minPrice, maxPrice, categoryId,
+                                attributes, pageable, countMode));
+        }
+
+        private SliceResponse<EstateBasicResponse> loadSearchPage(
+                        String city,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes,
+                        Pageable pageable,
+                        CountMode countMode) {
+
+                log.info("Searching estates with filters - city: {}, type: {}, minPrice: {}, maxPrice: {}, categoryId: {}, attributes: {}, count: {}",
+                                city, type, minPrice, maxPrice, categoryId, attributes, countMode);
+
+                Optional<Page<EstateBasicResponse>> indexed = searchIndexed(city, type, minPrice, maxPrice, categoryId,
+                                attributes, pageable);
+                if (indexed.isPresent()) {
+                        return SliceResponse.of(indexed.get());
+                }
+                if (countMode == CountMode.EXACT) {
+                        return listingCountService.exact(
+                                        approvedCountKey(city, type, minPrice, maxPrice, categoryId, attributes),
+                                        estateRepository.searchEstates(city, type, minPrice, maxPrice, categoryId,
+                                                        attributes.minBedrooms(), attributes.minBathrooms(),
+                                                        attributes.minArea(), attributes.maxArea(), pageable));
+                }
+                Slice<EstateBasicResponse> estates = estateRepository.searchEstatesSlice(city, type, minPrice, maxPrice,
+                                categoryId, attributes.minBedrooms(), attributes.minBathrooms(), attributes.minArea(),
+                                attributes.maxArea(), pageable);
+                return estimateApproved(estates, countMode, city, type, minPrice, maxPrice, categoryId, attributes);
+        }
+
+        private SliceResponse<EstateBasicResponse> estimateApproved(
+                        Slice<EstateBasicResponse> estates,
+                        CountMode countMode,
+                        String city,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes) {
+
+                StringBuilder sql = new StringBuilder("SELECT 1 FROM estates WHERE status = 'APPROVED'");
+                List<Object> args = new ArrayList<>();
+                if (city != null) {
+                        sql.append(" AND city_key = ?");
+                        args.add(city);
+                }
+                if (type != null) {
+                        sql.append(" AND type = ?");
+                        args.add(type.name());
+                }
+                if (minPrice != null) {
+                        sql.append(" AND price >= ?");
+                        args.add(minPrice);
+                }
+                if (maxPrice != null) {
+                        sql.append(" AND price <= ?");
+                        args.add(maxPrice);
+                }
+                if (categoryId != null) {
+                        sql.append(" AND category_id = ?");
+                        args.add(categoryId);
+                }
+                if (attributes.minBedrooms() != null) {
+                        sql.append(" AND bedrooms >= ?");
+                        args.add(attributes.minBedrooms());
+                }
+                if (attributes.minBathrooms() != null) {
+                        sql.append(" AND bathrooms >= ?");
+                        args.add(attributes.minBathrooms());
+                }
+                if (attributes.minArea() != null) {
+                        sql.append(" AND area >= ?");
+                        args.add(attributes.minArea());
+                }
+                if (attributes.maxArea() != null) {
+                        sql.append(" AND area <= ?");
+                        args.add(attributes.maxArea());
+                }
+                return listingCountService.withoutCount(estates, countMode,
+                                approvedCountKey(city, type, minPrice, maxPrice, categoryId, attributes),
+                                sql.toString(), args.toArray());
+        }
+
+        private static String approvedCountKey(
+                        String city,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes) {
+                String key = "estates:approved:" + city + ":" + type + ":" + minPrice + ":" + maxPrice + ":"
+                                + categoryId;
+                if (attributes.isEmpty()) {
+                        return key;
+                }
+                return key + ":" + attributes.minBedrooms() + ":" + attributes.minBathrooms() + ":"
+                                + attributes.minArea() + ":" + attributes.maxArea();
+        }
 
         @Transactional(readOnly = true)
-        public Page<EstateBasicResponse> getAllEstates(int page, int size) {
-                log.info("Fetching estates - page: {}, size: {}", page, size);
-                Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-                Page<Estate> estatesPage = estateRepository.findByStatus(EstateStatus.APPROVED, pageable);
-                return estatesPage.map(this::buildEstateBasicResponse);
+        public Page<EstateBasicResponse> fullTextSearch(
+                        String query,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes,
+                        String sortBy,
+                        Sort.Direction direction,
+                        int page,
+                        int size) {
+
+                log.info("Full-text search for '{}' with filters - type: {}, minPrice: {}, maxPrice: {}, categoryId: {}, attributes: {}",
+                                query, type, minPrice, maxPrice, categoryId, attributes);
+
+                Pageable pageable = textSearchPage(page, size);
+                Page<Long> ids = luceneIndex.search(query, type, minPrice, maxPrice, categoryId, attributes, sortBy,
+                                direction.isAscending(), pageable);
+                return new PageImpl<>(loadBasicInOrder(ids.getContent()), pageable, ids.getTotalElements());
+        }
+
+        @Transactional(readOnly = true)
+        public Page<EstateBasicResponse> searchNearby(
+                        double latitude,
+                        double longitude,
+                        double radiusKm,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes,
+                        int page,
+                        int size) {
+
+                log.info("Searching estates within {} km of ({}, {})", radiusKm, latitude, longitude);
+
+                validateLatitude(latitude);
+                validateLongitude(longitude);
+                if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+                        throw new BadRequestException("Radius must be greater than 0 and at most " + MAX_RADIUS_KM + " km");
+                }
+
+                Pageable pageable = textSearchPage(page, size);
+                Page<Long> ids = luceneIndex.searchWithinRadius(latitude, longitude, radiusKm * 1000, type,
+                                minPrice, maxPrice, categoryId, attributes, pageable);
+                return new PageImpl<>(loadBasicInOrder(ids.getContent()), pageable, ids.getTotalElements());
+        }
+
+        @Transactional(readOnly = true)
+        public Page<EstateBasicResponse> searchWithinBox(
+                        double minLatitude,
+                        double maxLatitude,
+                        double minLongitude,
+                        double maxLongitude,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes,
+                        int page,
+                        int size) {
+
+                log.info("Searching estates within box lat [{}, {}] lon [{}, {}]",
+                                minLatitude, maxLatitude, minLongitude, maxLongitude);
+
+                validateLatitude(minLatitude);
+                validateLatitude(maxLatitude);
+                validateLongitude(minLongitude);
+                validateLongitude(maxLongitude);
+                if (minLatitude > maxLatitude) {
+                        throw new BadRequestException("minLat must not be greater than maxLat");
+                }
+
+                Pageable pageable = textSearchPage(page, size);
+                Page<Long> ids = luceneIndex.searchWithinBox(minLatitude, maxLatitude, minLongitude, maxLongitude,
+                                type, minPrice, maxPrice, categoryId, attributes, pageable);
+                return new PageImpl<>(loadBasicInOrder(ids.getContent()), pageable, ids.getTotalElements());
+        }
+
+        private static Pageable textSearchPage(int page, int size) {
+                Pageable pageable = PageRequest.of(page, size);
+                if (pageable.getOffset() + size > EstateLuceneIndex.MAX_RESULT_WINDOW) {
+                        throw new BadRequestException("Only the first " + EstateLuceneIndex.MAX_RESULT_WINDOW
+                                        + " results can be paged through; narrow the search instead");
+                }
+                return pageable;
+        }
+
+        private static void validateLatitude(double latitude) {
+                if (latitude < -90 || latitude > 90) {
+                        throw new BadRequestException("Latitude must be between -90 and 90");
+                }
+        }
+
+        private static void validateLongitude(double longitude) {
+                if (longitude < -180 || longitude > 180) {
+                        throw new BadRequestException("Longitude must be between -180 and 180");
+                }
         }
 
         @Transactional(readOnly = true)
-        public Page<EstateBasicResponse> searchEstates(
+        public EstateFacetsResponse getFacets(
+                        String city,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId) {
+
+                log.info("Computing facets with filters - city: {}, type: {}, minPrice: {}, maxPrice: {}, categoryId: {}",
+                                city, type, minPrice, maxPrice, categoryId);
+
+                double[] priceEdges = type == EstateType.RENT ? RENT_PRICE_EDGES : SALE_PRICE_EDGES;
+                FacetCounts counts = attributeIndex.facets(TextFolding.fold(city), type, minPrice, maxPrice, categoryId, priceEdges)
+                                .orElseThrow(() -> new ServiceUnavailableException(
+                                                "Search index is still loading, please retry shortly"));
+
+                Map<Long, String> categoryNames = categoryRepository.findAllById(counts.getCategories().keySet())
+                                .stream()
+                                .collect(Collectors.toMap(Category::getId, Category::getName));
+
+                List<PriceRangeFacet> priceRanges = new ArrayList<>(priceEdges.length);
+                for (int i = 0; i < priceEdges.length; i++) {
+                        priceRanges.add(PriceRangeFacet.builder()
+                                        .minPrice(priceEdges[i])
+                                        .maxPrice(i + 1 < priceEdges.length ? priceEdges[i + 1] : null)
+                                        .count(counts.getPriceBuckets()[i])
+                                        .build());
+                }
+
+                return EstateFacetsResponse.builder()
+                                .total(counts.getTotal())
+                                .cities(counts.getCities().entrySet().stream()
+                                                .map(entry -> new FacetValue(entry.getKey(), entry.getKey(),
+                                                                entry.getValue()))
+                                                .toList())
+                                .types(counts.getTypes().entrySet().stream()
+                                                .map(entry -> new FacetValue(entry.getKey().name(),
+                                                                entry.getKey().name(), entry.getValue()))
+                                                .toList())
+                                .categories(counts.getCategories().entrySet().stream()
+                                                .map(entry -> new FacetValue(entry.getKey().toString(),
+                                                                categoryNames.get(entry.getKey()), entry.getValue()))
+                                                .toList())
+                                .priceRanges(priceRanges)
+                                .build();
+        }
+
+        private Optional<Page<EstateBasicResponse>> searchIndexed(
                         String city,
                         EstateType type,
                         BigDecimal minPrice,
                         BigDecimal maxPrice,
                         Long categoryId,
+                        AttributeFilter attributes,
                         Pageable pageable) {
 
-                log.info("Searching estates with filters - city: {}, type: {}, minPrice: {}, maxPrice: {}, categoryId: {}",
-                                city, type, minPrice, maxPrice, categoryId);
+                return attributeIndex.search(city, type, minPrice, maxPrice, categoryId, attributes, pageable)
+                                .map(ids -> new PageImpl<>(loadBasicInOrder(ids.getContent()), pageable,
+                                                ids.getTotalElements()));
+        }
 
-                Page<Estate> estatesPage = estateRepository.searchEstates(city, type, minPrice, maxPrice, categoryId,
-                                pageable);
+        private List<EstateBasicResponse> loadBasicInOrder(List<Long> ids) {
+                if (ids.isEmpty()) {
+                        return List.of();
+                }
+                return inOrder(ids, estateRepository.findBasicByIdIn(ids));
+        }
+
+        private static List<EstateBasicResponse> inOrder(List<Long> ids, List<EstateBasicResponse> estates) {
+                Map<Long, EstateBasicResponse> byId = estates.stream()
+                                .collect(Collectors.toMap(EstateBasicResponse::getId, Function.identity()));
+                return ids.stream()
+                                .map(byId::get)
+                                .filter(Objects::nonNull)
+                                .toList();
+        }
+
+        @Transactional(readOnly = true)
+        public CursorPageResponse<EstateBasicResponse> scrollEstates(
+                        String city,
+                        EstateType type,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        Long categoryId,
+                        AttributeFilter attributes,
+                        String sortBy,
+                        Sort.Direction direction,
+                        String after,
+                        int size) {
+
+                log.info("Scrolling estates with filters - city: {}, type: {}, minPrice: {}, maxPrice: {}, categoryId: {}, attributes: {}, sortBy: {}, direction: {}",
+                                city, type, minPrice, maxPrice, categoryId, attributes, sortBy, direction);
+
+                EstateCursor.validateSort(sortBy);
+                String cityKey = TextFolding.fold(city);
+                EstateCursor cursor = after == null || after.isBlank()
+                                ? null
+                                : EstateCursor.decode(after, sortBy, direction);
+                Long afterId = cursor == null ? null : cursor.getId();
+                Pageable limit = PageRequest.ofSize(size);
+
+                Slice<EstateBasicResponse> slice;
+                if (EstateCursor.SORT_PRICE.equals(sortBy)) {
+                        Double afterPrice = cursor == null ? null : cursor.getPrice();
+                        slice = direction.isAscending()
+                                        ? estateRepository.scrollByPriceAsc(cityKey, type, minPrice, maxPrice,
+                                                        categoryId, attributes.minBedrooms(), attributes.minBathrooms(),
+                                                        attributes.minArea(), attributes.maxArea(), afterPrice, afterId,
+                                                        limit)
+                                        : estateRepository.scrollByPriceDesc(cityKey, type, minPrice, maxPrice,
+                                                        categoryId, attributes.minBedrooms(), attributes.minBathrooms(),
+                                                        attributes.minArea(), attributes.maxArea(), afterPrice, afterId,
+                                                        limit);
+                } else {
+                        LocalDateTime afterCreatedAt = cursor == null ? null : cursor.getCreatedAt();
+                        slice = direction.isAscending()
+                                        ? estateRepository.scrollByCreatedAtAsc(cityKey, type, minPrice, maxPrice,
+                                                        categoryId, attributes.minBedrooms(), attributes.minBathrooms(),
+                                                        attributes.minArea(), attributes.maxArea(), afterCreatedAt,
+                                                        afterId, limit)
+                                        : estateRepository.scrollByCreatedAtDesc(cityKey, type, minPrice, maxPrice,
+                                                        categoryId, attributes.minBedrooms(), attributes.minBathrooms(),
+                                                        attributes.minArea(), attributes.maxArea(), afterCreatedAt,
+                                                        afterId, limit);
+                }
 
-                return estatesPage.map(this::buildEstateBasicResponse);
+                String nextCursor = null;
+                if (slice.hasNext()) {
+                        EstateBasicResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                        nextCursor = EstateCursor.of(sortBy, direction, last.getCreatedAt(), last.getPrice(),
+                                        last.getId()).encode();
+                }
+
+                return CursorPageResponse.<EstateBasicResponse>builder()
+                                .content(slice.getContent())
+                                .size(size)
+                                .hasNext(slice.hasNext())
+                                .nextCursor(nextCursor)
+                                .build();
         }
 
         @Transactional(readOnly = true)
+        public EstateVersion getEstateVersion(Long id) {
+                return estateRepository.findVersionById(id)
+                                .orElseThrow(() -> new ResourceNotFoundException("Estate not found with id: " + id));
+        }
+
         public EstateResponse getEstateById(Long id) {
+                return estateResponseCache.get(id, this::loadEstateResponse);
+        }
+
+        public EstateBatchResponse getEstatesByIds(List<Long> ids) {
+                Set<Long> distinctIds = new LinkedHashSet<>();
+                if (ids != null) {
+                        ids.stream().filter(Objects::nonNull).forEach(distinctIds::add);
+                }
+                if (distinctIds.isEmpty()) {
+                        throw new BadRequestException("At least one estate id is required");
+                }
+                if (distinctIds.size() > MAX_BATCH_IDS) {
+                        throw new BadRequestException("At most " + MAX_BATCH_IDS + " estates can be requested at once");
+                }
+
+                log.info("Fetching {} estates by id", distinctIds.size());
+                Map<Long, EstateResponse> found = estateResponseCache.getAll(distinctIds, this::loadEstateResponses);
+
+                List<EstateBatchResponse.Item> items = distinctIds.stream()
+                                .map(id -> batchItem(id, found.get(id)))
+                                .toList();
+                return EstateBatchResponse.builder()
+                                .items(items)
+                                .build();
+        }
+
+        @Transactional(readOnly = true)
+        public List<EstateBasicResponse> getSimilarEstates(Long id, int limit) {
+                if (limit < 1 || limit > MAX_SIMILAR) {
+                        throw new BadRequestException("Limit must be between 1 and " + MAX_SIMILAR);
+                }
+                if (!similarIndex.isReady()) {
+                        throw new ServiceUnavailableException("Search index is still loading, please retry shortly");
+                }
+                List<Long> ids = similarIndex.similarTo(id, limit)
+                                .orElseThrow(() -> new ResourceNotFoundException("Estate not found with id: " + id));
+                return loadBasicInOrder(ids);
+        }
+
+        /**
+         * Recommendations are rebuilt in batch, so an estate may have left
+         * APPROVED since; those are dropped here rather than in the index.
+         */
+        @Transactional(readOnly = true)
+        public List<EstateBasicResponse> getAlsoSavedEstates(Long id, int limit) {
+                if (limit < 1 || limit > MAX_SIMILAR) {
+                        throw new BadRequestException("Limit must be between 1 and " + MAX_SIMILAR);
+                }
+                if (!coFavoriteIndex.isReady()) {
+                        throw new ServiceUnavailableException("Recommendations are still loading, please retry shortly");
+                }
+                List<Long> ids = coFavoriteIndex.neighboursOf(id, limit);
+                if (ids.isEmpty()) {
+                        return List.of();
+                }
+                return inOrder(ids, estateRepository.findApprovedBasicByIdIn(ids));
+        }
+
+        private Map<Long, EstateResponse> loadEstateResponses(Set<Long> ids) {
+                List<Estate> estates = estateRepository.findDetailsByIdIn(ids);
+                if (!estates.isEmpty()) {
+                        estateRepository.fetchImages(estates);
+                        estateRepository.fetchCharacteristics(estates);
+                }
+                return estates.stream().collect(Collectors.toMap(Estate::getId, this::buildEstateResponse));
+        }
+
+        private static EstateBatchResponse.Item batchItem(Long id, EstateResponse estate) {
+                if (estate == null) {
+                        return EstateBatchResponse.Item.builder()
+                                        .id(id)
+                                        .status(HttpStatus.NOT_FOUND.value())
+                                        .error("Estate not found with id: " + id)
+                                        .build();
+                }
+                if (estate.getStatus() != EstateStatus.APPROVED) {
+                        return EstateBatchResponse.Item.builder()
+                                        .id(id)
+                                        .status(HttpStatus.NOT_FOUND.value())
+                                        .error("Estate is not available: " + id)
+                                        .build();
+                }
+                return EstateBatchResponse.Item.builder()
+                                .id(id)
+                                .status(HttpStatus.OK.value())
+                                .estate(estate)
+                                .build();
+        }
+
+        private EstateResponse loadEstateResponse(Long id) {
                 log.info("Fetching estate with id: {}", id);
                 Estate estate = estateRepository.findById(id)
                                 .orElseThrow(() -> new ResourceNotFoundException("Estate not found with id: " + id));
@@ -84,6 +586,10 @@ public class EstateService {
         public EstateResponse createEstate(CreateEstateRequest request) {
                 log.info("Creating estate with name: {}", request.getName());
 
+                if ((request.getLatitude() == null) != (request.getLongitude() == null)) {
+                        throw new BadRequestException("Latitude and longitude must be provided together");
+                }
+
                 User currUser = securityUtil.getCurrentUser();
 
                 Seller seller = sellerRepository.findByUser(currUser)
@@ -102,10 +608,18 @@ public class EstateService {
                                 .seller(seller)
                                 .city(request.getCity())
                                 .address(request.getAddress())
+                                .latitude(request.getLatitude())
+                                .longitude(request.getLongitude())
                                 .status(EstateStatus.WAITING_FOR_APPROVAL)
                                 .build();
 
+                EstateAttributes attributes = EstateAttributes.from(request.getCharacteristics());
+                estate.setBedrooms(attributes.getBedrooms());
+                estate.setBathrooms(attributes.getBathrooms());
+                estate.setArea(attributes.getArea());
+
                 if (request.getImageUrls() != null && !request.getImageUrls().isEmpty()) {
+                        estate.setMainImageUrl(request.getImageUrls().get(0));
                         List<EstateImage> images = request.getImageUrls().stream()
                                         .map(url -> EstateImage.builder()
                                                         .s3url(url)
@@ -128,22 +642,39 @@ public class EstateService {
                 }
 
                 Estate savedEstate = estateRepository.save(estate);
+                eventPublisher.publishEvent(EstateChangedEvent.of(savedEstate, null));
                 log.info("Estate created successfully with id: {}", savedEstate.getId());
 
                 return buildEstateResponse(savedEstate);
         }
 
         @Transactional(readOnly = true)
-        public Page<EstateResponse> getMyEstates(int page, int size) {
-                log.info("Fetching my estates - page: {}, size: {}", page, size);
+        public SliceResponse<EstateResponse> getMyEstates(int page, int size, CountMode countMode) {
+                log.info("Fetching my estates - page: {}, size: {}, count: {}", page, size, countMode);
                 User currUser = securityUtil.getCurrentUser();
 
                 Seller seller = sellerRepository.findByUser(currUser)
                                 .orElseThrow(() -> new ResourceNotFoundException("Seller profile not found for user"));
 
                 Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-                Page<Estate> estatesPage = estateRepository.findBySeller(seller, pageable);
-                return estatesPage.map(this::buildEstateResponse);
+                String countKey = "estates:seller:" + seller.getId();
+                if (countMode == CountMode.EXACT) {
+                        Page<Estate> estatesPage = estateRepository.findBySeller(seller, pageable);
+                        return listingCountService.exact(countKey,
+                                        withViewCounts(estatesPage.map(this::buildEstateResponse)));
+                }
+                Slice<Estate> estates = estateRepository.findSliceBySeller(seller, pageable);
+                return listingCountService.withoutCount(withViewCounts(estates.map(this::buildEstateResponse)),
+                                countMode, countKey, "SELECT 1 FROM estates WHERE seller_id = ?", seller.getId());
+        }
+
+        private <S extends Slice<EstateResponse>> S withViewCounts(S estates) {
+                if (estates.hasContent()) {
+                        Map<Long, Long> views = estateViewService.viewCounts(
+                                        estates.getContent().stream().map(EstateResponse::getId).toList());
+                        estates.forEach(estate -> estate.setViewCount(views.getOrDefault(estate.getId(), 0L)));
+                }
+                return estates;
         }
 
         @Transactional
@@ -162,6 +693,7 @@ public class EstateService {
                 }
 
                 estateRepository.delete(estate);
+                eventPublisher.publishEvent(EstateChangedEvent.deleted(estate));
                 log.info("Estate and associated images deleted successfully with id: {}", id);
         }
 
@@ -181,8 +713,10 @@ public class EstateService {
                                         "Only estates of type SALE can be marked as SOLD");
                 }
 
+                EstateStatus previousStatus = estate.getStatus();
                 estate.setStatus(EstateStatus.SOLD);
                 Estate soldEstate = estateRepository.save(estate);
+                eventPublisher.publishEvent(EstateChangedEvent.of(soldEstate, previousStatus));
 
                 log.info("Estate marked as SOLD successfully with id: {}", id);
                 return buildEstateResponse(soldEstate);
@@ -204,19 +738,28 @@ public class EstateService {
                                         "Only estates of type RENTAL can be marked as RENTED");
                 }
 
+                EstateStatus previousStatus = estate.getStatus();
                 estate.setStatus(EstateStatus.RENTED);
                 Estate rentedEstate = estateRepository.save(estate);
+                eventPublisher.publishEvent(EstateChangedEvent.of(rentedEstate, previousStatus));
 
                 log.info("Estate marked as RENTED successfully with id: {}", id);
                 return buildEstateResponse(rentedEstate);
         }
 
         @Transactional(readOnly = true)
-        public Page<EstateResponse> getPendingEstates(int page, int size) {
-                log.info("Fetching pending estates - page: {}, size: {}", page, size);
+        public SliceResponse<EstateResponse> getPendingEstates(int page, int size, CountMode countMode) {
+                log.info("Fetching pending estates - page: {}, size: {}, count: {}", page, size, countMode);
                 Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").ascending());
-                Page<Estate> estatesPage = estateRepository.findByStatus(EstateStatus.WAITING_FOR_APPROVAL, pageable);
-                return estatesPage.map(this::buildEstateResponse);
+                String countKey = "estates:pending";
+                if (countMode == CountMode.EXACT) {
+                        Page<Estate> estatesPage = estateRepository.findByStatus(EstateStatus.WAITING_FOR_APPROVAL,
+                                        pageable);
+                        return listingCountService.exact(countKey, estatesPage.map(this::buildEstateResponse));
+                }
+                Slice<Estate> estates = estateRepository.findSliceByStatus(EstateStatus.WAITING_FOR_APPROVAL, pageable);
+                return listingCountService.withoutCount(estates.map(this::buildEstateResponse), countMode, countKey,
+                                "SELECT 1 FROM estates WHERE status = 'WAITING_FOR_APPROVAL'");
         }
 
         @Transactional
@@ -230,8 +773,10 @@ public class EstateService {
                                         "Only estates with status WAITING_FOR_APPROVAL can be approved");
                 }
 
+                EstateStatus previousStatus = estate.getStatus();
                 estate.setStatus(EstateStatus.APPROVED);
                 Estate approvedEstate = estateRepository.save(estate);
+                eventPublisher.publishEvent(EstateChangedEvent.of(approvedEstate, previousStatus));
 
                 log.info("Estate approved successfully with id: {}", id);
                 return buildEstateResponse(approvedEstate);
@@ -247,8 +792,10 @@ public class EstateService {
                                         "Only estates with status WAITING_FOR_APPROVAL can be rejected");
                 }
 
+                EstateStatus previousStatus = estate.getStatus();
                 estate.setStatus(EstateStatus.REJECTED);
                 Estate rejectedEstate = estateRepository.save(estate);
+                eventPublisher.publishEvent(EstateChangedEvent.of(rejectedEstate, previousStatus));
 
                 log.info("Estate rejected successfully with id: {}", id);
                 return buildEstateResponse(rejectedEstate);
@@ -297,6 +844,11 @@ public class EstateService {
                                 .status(estate.getStatus())
                                 .city(estate.getCity())
                                 .address(estate.getAddress())
+                                .latitude(estate.getLatitude())
+                                .longitude(estate.getLongitude())
+                                .bedrooms(estate.getBedrooms())
+                                .bathrooms(estate.getBathrooms())
+                                .area(estate.getArea())
                                 .categoryId(estate.getCategory().getId())
                                 .categoryName(estate.getCategory().getName())
                                 .seller(sellerResponse)
@@ -308,8 +860,6 @@ public class EstateService {
         }
 
         EstateBasicResponse buildEstateBasicResponse(Estate estate) {
-                String mainImageUrl = estate.getImages().isEmpty() ? null : estate.getImages().get(0).getS3url();
-
                 return EstateBasicResponse.builder()
                                 .id(estate.getId())
                                 .name(estate.getName())
@@ -317,7 +867,11 @@ public class EstateService {
                                 .type(estate.getType())
                                 .city(estate.getCity())
                                 .address(estate.getAddress())
-                                .mainImageUrl(mainImageUrl)
+                                .mainImageUrl(estate.getMainImageUrl())
+                                .latitude(estate.getLatitude())
+                                .longitude(estate.getLongitude())
+                                .createdAt(estate.getCreatedAt())
+                                .updatedAt(estate.getUpdatedAt())
                                 .build();
         }
 }
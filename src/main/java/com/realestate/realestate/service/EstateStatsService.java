@@ -0,0 +1,90 @@
+package com.realestate.realestate.service;
+
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.realestate.realestate.dto.estate.PriceStatsResponse;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.exception.common.ServiceUnavailableException;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.IndexedEstate;
+import com.realestate.realestate.search.PriceSketchIndex;
+import com.realestate.realestate.search.PriceSummary;
+import com.realestate.realestate.util.TextFolding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EstateStatsService {
+
+    private final EstateRepository estateRepository;
+    private final PriceSketchIndex priceSketches;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.stats.rebuild-cron:0 30 3 * * *}")
+    @Transactional(readOnly = true)
+    public void nightlyRebuild() {
+        rebuild();
+    }
+
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        int sketched;
+        try (Stream<IndexedEstate> estates = estateRepository.streamApprovedForIndex()) {
+            sketched = priceSketches.rebuild(estates);
+        }
+        log.info("Price statistics rebuilt from {} estates in {} ms", sketched, System.currentTimeMillis() - start);
+        return sketched;
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.stale-refresh-interval:PT5M}",
+            initialDelayString = "${app.stats.stale-refresh-interval:PT5M}")
+    public void refreshStaleSegments() {
+        int refreshed = priceSketches.refreshStale();
+        if (refreshed > 0) {
+            log.info("Refreshed {} stale price statistic segments", refreshed);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEstateChanged(EstateChangedEvent event) {
+        if (event.isApproved()) {
+            priceSketches.upsert(event.getEstate());
+        } else if (event.wasApproved() || event.getStatus() == null) {
+            priceSketches.remove(event.getEstateId());
+        }
+    }
+
+    public PriceStatsResponse getStats(String city, Long categoryId, EstateType type) {
+        PriceSummary summary = priceSketches.summarize(TextFolding.fold(city), categoryId, type)
+                .orElseThrow(() -> new ServiceUnavailableException(
+                        "Price statistics are still loading, please retry shortly"));
+
+        return PriceStatsResponse.builder()
+                .city(city)
+                .categoryId(categoryId)
+                .type(type)
+                .count(summary.getCount())
+                .meanPrice(summary.getMean())
+                .p10Price(summary.getP10())
+                .medianPrice(summary.getMedian())
+                .p90Price(summary.getP90())
+                .build();
+    }
+}
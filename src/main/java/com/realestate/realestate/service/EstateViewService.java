@@ -0,0 +1,126 @@
+package com.realestate.realestate.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realestate.realestate.entity.EstateViewCount;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.repository.EstateViewCountRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts detail page views in memory and adds them to
+ * {@code estate_view_counts} in one batched upsert every few seconds, so a
+ * popular listing never serialises its visitors on a row lock. Views recorded
+ * since the last flush are lost if the process dies without shutting down.
+ */
+@Service
+@Slf4j
+public class EstateViewService {
+
+    // the select from estates skips views of estates deleted since they were counted; ON CONFLICT
+    // resolves two instances inserting the first row of an estate at once, which MERGE does not
+    private static final String ADD_VIEWS = "INSERT INTO estate_view_counts (estate_id, views) " +
+            "SELECT id, CAST(? AS BIGINT) FROM estates WHERE id = ? " +
+            "ON CONFLICT (estate_id) DO UPDATE SET views = estate_view_counts.views + EXCLUDED.views";
+    // H2 (tests) has no ON CONFLICT ... DO UPDATE
+    private static final String ADD_VIEWS_MERGE = "MERGE INTO estate_view_counts c " +
+            "USING (SELECT id AS estate_id, CAST(? AS BIGINT) AS views FROM estates WHERE id = ?) v " +
+            "ON c.estate_id = v.estate_id " +
+            "WHEN MATCHED THEN UPDATE SET views = c.views + v.views " +
+            "WHEN NOT MATCHED THEN INSERT (estate_id, views) VALUES (v.estate_id, v.views)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EstateViewCountRepository viewCountRepository;
+    private final TransactionTemplate transaction;
+    private final String addViews;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public EstateViewService(
+            JdbcTemplate jdbcTemplate,
+            EstateViewCountRepository viewCountRepository,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.viewCountRepository = viewCountRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        DatabaseDriver database = jdbcTemplate.execute((ConnectionCallback<DatabaseDriver>) connection ->
+                DatabaseDriver.fromProductName(connection.getMetaData().getDatabaseProductName()));
+        this.addViews = database == DatabaseDriver.H2 ? ADD_VIEWS_MERGE : ADD_VIEWS;
+    }
+
+    public void record(Long estateId) {
+        LongAdder views = pending.get(estateId);
+        if (views == null) {
+            views = pending.computeIfAbsent(estateId, id -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.views.flush-interval:PT5S}")
+    public synchronized int flush() {
+        // sorted so concurrent flushes from several instances lock rows in the same order
+        Map<Long, Long> batch = new TreeMap<>();
+        pending.forEach((estateId, views) -> {
+            long count = views.sumThenReset();
+            if (count > 0) {
+                batch.put(estateId, count);
+            }
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((estateId, count) -> rows.add(new Object[] { count, estateId }));
+        try {
+            transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(addViews, rows));
+        } catch (DataAccessException ex) {
+            batch.forEach((estateId, count) -> pending.computeIfAbsent(estateId, id -> new LongAdder()).add(count));
+            log.warn("Could not flush views of {} estates, keeping them for the next attempt", batch.size(), ex);
+            return 0;
+        }
+        log.debug("Flushed views of {} estates", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Stored views plus the ones not flushed yet, for every id given.
+     */
+    public Map<Long, Long> viewCounts(Collection<Long> estateIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (EstateViewCount stored : viewCountRepository.findAllById(estateIds)) {
+            counts.put(stored.getEstateId(), stored.getViews());
+        }
+        for (Long estateId : estateIds) {
+            LongAdder views = pending.get(estateId);
+            counts.merge(estateId, views == null ? 0L : views.sum(), Long::sum);
+        }
+        return counts;
+    }
+
+    @TransactionalEventListener
+    public void onEstateChanged(EstateChangedEvent event) {
+        if (event.getStatus() == null) {
+            pending.remove(event.getEstateId());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.realestate.realestate.service;
+
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realestate.realestate.repository.FavoriteRepository;
+import com.realestate.realestate.search.CoFavoriteIndex;
+import com.realestate.realestate.search.FavoritePair;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FavoriteRecommendationService {
+
+    private final FavoriteRepository favoriteRepository;
+    private final CoFavoriteIndex coFavoriteIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.recommendations.rebuild-interval:PT1H}",
+            initialDelayString = "${app.recommendations.rebuild-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        int recommended;
+        try (Stream<FavoritePair> favorites = favoriteRepository.streamApprovedByUser()) {
+            recommended = coFavoriteIndex.rebuild(favorites);
+        }
+        log.info("Co-favorite recommendations rebuilt for {} estates in {} ms", recommended,
+                System.currentTimeMillis() - start);
+        return recommended;
+    }
+}
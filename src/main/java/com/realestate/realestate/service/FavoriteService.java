@@ -3,10 +3,12 @@ package com.realestate.realestate.service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.realestate.realestate.dto.common.SliceResponse;
 import com.realestate.realestate.dto.estate.EstateResponse;
 import com.realestate.realestate.dto.favorite.FavoriteCheckResponse;
 import com.realestate.realestate.dto.favorite.FavoriteCountResponse;
@@ -14,6 +16,8 @@ import com.realestate.realestate.dto.favorite.FavoriteResponse;
 import com.realestate.realestate.entity.Estate;
 import com.realestate.realestate.entity.Favorite;
 import com.realestate.realestate.entity.User;
+import com.realestate.realestate.enums.CountMode;
+import com.realestate.realestate.enums.EngagementType;
 import com.realestate.realestate.enums.EstateStatus;
 import com.realestate.realestate.exception.common.DuplicateResourceException;
 import com.realestate.realestate.exception.common.ResourceNotFoundException;
@@ -32,6 +36,8 @@ public class FavoriteService {
     private final EstateRepository estateRepository;
     private final EstateService estateService;
     private final SecurityUtil securityUtil;
+    private final ListingCountService listingCountService;
+    private final TrendingService trendingService;
 
     @Transactional
     public FavoriteResponse addToFavorites(Long estateId) {
@@ -55,6 +61,7 @@ public class FavoriteService {
                 .build();
 
         Favorite savedFavorite = favoriteRepository.save(favorite);
+        trendingService.record(estateId, EngagementType.FAVORITE);
 
         log.info("Estate {} added to favorites successfully", estateId);
         return buildFavoriteResponse(savedFavorite);
@@ -77,15 +84,21 @@ public class FavoriteService {
     }
 
     @Transactional(readOnly = true)
-    public Page<FavoriteResponse> getMyFavorites(int page, int size) {
+    public SliceResponse<FavoriteResponse> getMyFavorites(int page, int size, CountMode countMode) {
         log.info("Fetching user favorites - page: {}, size: {}", page, size);
 
         User currentUser = securityUtil.getCurrentUser();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        Page<Favorite> favorites = favoriteRepository.findByUserOrderByCreatedAtDesc(currentUser, pageable);
+        String countKey = "favorites:user:" + currentUser.getId();
+        if (countMode == CountMode.EXACT) {
+            Page<Favorite> favorites = favoriteRepository.findByUserOrderByCreatedAtDesc(currentUser, pageable);
+            return listingCountService.exact(countKey, favorites.map(this::buildFavoriteResponse));
+        }
 
-        return favorites.map(this::buildFavoriteResponse);
+        Slice<Favorite> favorites = favoriteRepository.findSliceByUserOrderByCreatedAtDesc(currentUser, pageable);
+        return listingCountService.withoutCount(favorites.map(this::buildFavoriteResponse), countMode, countKey,
+                "SELECT 1 FROM favorites WHERE user_id = ?", currentUser.getId());
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,79 @@
+package com.realestate.realestate.service;
+
+import java.time.Duration;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.realestate.dto.common.SliceResponse;
+import com.realestate.realestate.enums.CountMode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns listing slices into {@link SliceResponse}s according to the requested
+ * {@link CountMode}. Exact totals are remembered for a short while and reused
+ * as estimates; without one, the PostgreSQL planner's row estimate for the
+ * listing's WHERE clause is used.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ListingCountService {
+
+    private static final Duration CACHED_COUNT_TTL = Duration.ofMinutes(1);
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Long> cachedCounts = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_COUNTS)
+            .expireAfterWrite(CACHED_COUNT_TTL)
+            .build();
+
+    public <T> SliceResponse<T> exact(String countKey, Page<T> page) {
+        remember(countKey, page.getTotalElements());
+        return SliceResponse.of(page);
+    }
+
+    /**
+     * @param plannerSql a {@code SELECT} over the listing's rows with positional
+     *                   parameters, used only to ask the planner for a row estimate
+     */
+    public <T> SliceResponse<T> withoutCount(
+            Slice<T> slice,
+            CountMode countMode,
+            String countKey,
+            String plannerSql,
+            Object... plannerArgs) {
+
+        Long estimate = null;
+        if (countMode == CountMode.ESTIMATE && slice.hasNext()) {
+            Long cached = cachedCounts.getIfPresent(countKey);
+            estimate = cached != null ? cached : plannerEstimate(plannerSql, plannerArgs);
+        }
+        return SliceResponse.of(slice, estimate);
+    }
+
+    public void remember(String countKey, long total) {
+        cachedCounts.put(countKey, total);
+    }
+
+    private Long plannerEstimate(String sql, Object... args) {
+        try {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? rows.asLong() : null;
+        } catch (Exception ex) {
+            log.debug("Planner row estimate unavailable: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.realestate.realestate.service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.entity.Notification;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.event.SavedSearchChangedEvent;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.repository.NotificationRepository;
+import com.realestate.realestate.repository.SavedSearchRepository;
+import com.realestate.realestate.search.IndexedSavedSearch;
+import com.realestate.realestate.search.SavedSearchIndex;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the saved search index in step with the table and, once an estate is
+ * approved, notifies the owners of the saved searches it matches. Matching
+ * and writing the notifications run on the async executor after the approval
+ * commits, so approving never waits for them.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SavedSearchAlertService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final EstateRepository estateRepository;
+    private final NotificationRepository notificationRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final EntityManager entityManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void indexOnStartup() {
+        long start = System.currentTimeMillis();
+        int indexed;
+        try (Stream<IndexedSavedSearch> searches = savedSearchRepository.streamAllForIndex()) {
+            indexed = savedSearchIndex.rebuild(searches);
+        }
+        log.info("Saved search index rebuilt with {} searches in {} ms", indexed,
+                System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        if (event.getSearch() == null) {
+            savedSearchIndex.remove(event.getSavedSearchId());
+        } else {
+            savedSearchIndex.upsert(event.getSearch());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEstateChanged(EstateChangedEvent event) {
+        if (!event.isApproved() || event.wasApproved()) {
+            return;
+        }
+        List<Long> receivers = savedSearchIndex.matching(event.getEstate()).stream()
+                .map(IndexedSavedSearch::getUserId)
+                .distinct()
+                .toList();
+        if (receivers.isEmpty()) {
+            return;
+        }
+
+        Estate estate = estateRepository.findById(event.getEstateId()).orElse(null);
+        if (estate == null) {
+            return;
+        }
+        User sender = estate.getSeller().getUser();
+        String content = "A new estate matches your saved search: " + estate.getName() + " in "
+                + estate.getCity() + " (id " + estate.getId() + ")";
+        List<Notification> notifications = receivers.stream()
+                .filter(userId -> !userId.equals(sender.getId()))
+                .map(userId -> Notification.builder()
+                        .sender(sender)
+                        .receiver(entityManager.getReference(User.class, userId))
+                        .content(content)
+                        .build())
+                .toList();
+        notificationRepository.saveAll(notifications);
+        log.info("Estate {} matched saved searches of {} users", estate.getId(), notifications.size());
+    }
+}
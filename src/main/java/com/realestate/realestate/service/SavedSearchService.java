@@ -0,0 +1,109 @@
+package com.realestate.realestate.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realestate.realestate.dto.savedsearch.CreateSavedSearchRequest;
+import com.realestate.realestate.dto.savedsearch.SavedSearchResponse;
+import com.realestate.realestate.entity.SavedSearch;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.event.SavedSearchChangedEvent;
+import com.realestate.realestate.exception.common.BadRequestException;
+import com.realestate.realestate.exception.common.ResourceNotFoundException;
+import com.realestate.realestate.repository.CategoryRepository;
+import com.realestate.realestate.repository.SavedSearchRepository;
+import com.realestate.realestate.search.IndexedSavedSearch;
+import com.realestate.realestate.util.SecurityUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+    static final int MAX_SAVED_SEARCHES = 20;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final CategoryRepository categoryRepository;
+    private final SecurityUtil securityUtil;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public SavedSearchResponse createSavedSearch(CreateSavedSearchRequest request) {
+        User currentUser = securityUtil.getCurrentUser();
+        log.info("Saving search '{}' for user {}", request.getName(), currentUser.getId());
+
+        String city = request.getCity() == null || request.getCity().isBlank() ? null : request.getCity().trim();
+        if (city == null && request.getType() == null && request.getCategoryId() == null
+                && request.getMinPrice() == null && request.getMaxPrice() == null) {
+            throw new BadRequestException("A saved search needs at least one filter");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice().compareTo(request.getMaxPrice()) > 0) {
+            throw new BadRequestException("Minimum price must not be greater than maximum price");
+        }
+        if (request.getCategoryId() != null && !categoryRepository.existsById(request.getCategoryId())) {
+            throw new ResourceNotFoundException("Category not found with id: " + request.getCategoryId());
+        }
+        if (savedSearchRepository.countByUser(currentUser) >= MAX_SAVED_SEARCHES) {
+            throw new BadRequestException("You can keep at most " + MAX_SAVED_SEARCHES + " saved searches");
+        }
+
+        SavedSearch savedSearch = savedSearchRepository.save(SavedSearch.builder()
+                .user(currentUser)
+                .name(request.getName().trim())
+                .city(city)
+                .type(request.getType())
+                .categoryId(request.getCategoryId())
+                .minPrice(toDouble(request.getMinPrice()))
+                .maxPrice(toDouble(request.getMaxPrice()))
+                .build());
+        eventPublisher.publishEvent(
+                new SavedSearchChangedEvent(savedSearch.getId(), IndexedSavedSearch.of(savedSearch)));
+
+        log.info("Saved search {} created", savedSearch.getId());
+        return buildSavedSearchResponse(savedSearch);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getMySavedSearches() {
+        User currentUser = securityUtil.getCurrentUser();
+        return savedSearchRepository.findByUserOrderByCreatedAtDesc(currentUser).stream()
+                .map(this::buildSavedSearchResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long id) {
+        User currentUser = securityUtil.getCurrentUser();
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUser(id, currentUser)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found with id: " + id));
+
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(id, null));
+        log.info("Saved search {} deleted", id);
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value == null ? null : value.doubleValue();
+    }
+
+    private SavedSearchResponse buildSavedSearchResponse(SavedSearch savedSearch) {
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .city(savedSearch.getCity())
+                .type(savedSearch.getType())
+                .minPrice(savedSearch.getMinPrice())
+                .maxPrice(savedSearch.getMaxPrice())
+                .categoryId(savedSearch.getCategoryId())
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.realestate.realestate.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.realestate.realestate.dto.seller.SellerApplicationRequest;
@@ -13,6 +14,7 @@ import com.realestate.realestate.entity.Seller;
 import com.realestate.realestate.entity.User;
 import com.realestate.realestate.enums.RoleName;
 import com.realestate.realestate.enums.SellerStatus;
+import com.realestate.realestate.event.SellerChangedEvent;
 import com.realestate.realestate.exception.common.ResourceNotFoundException;
 import com.realestate.realestate.exception.seller.InvalidSellerStatusException;
 import com.realestate.realestate.exception.seller.SellerAlreadyExistsException;
@@ -31,6 +33,7 @@ public class SellerService {
     private final UserRepository userRepository;
     private final SellerRepository sellerRepository;
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void applyToBecomeSeller(String userEmail, SellerApplicationRequest request) {
@@ -56,6 +59,7 @@ public class SellerService {
                         existingSeller.setVerifiedAt(null);
                         existingSeller.setVerificationNotes(null);
                         sellerRepository.save(existingSeller);
+                        eventPublisher.publishEvent(new SellerChangedEvent(existingSeller.getId()));
                         log.info("User {} has re-applied to become a seller", userEmail);
                     }
                 },
@@ -138,6 +142,7 @@ public class SellerService {
 
         seller.setVerificationNotes(request.getNotes());
         sellerRepository.save(seller);
+        eventPublisher.publishEvent(new SellerChangedEvent(sellerId));
         log.info("Seller {} has been {}", sellerId, request.getApproved() ? "approved" : "rejected");
     }
 
@@ -0,0 +1,70 @@
+package com.realestate.realestate.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.enums.EngagementType;
+import com.realestate.realestate.exception.common.BadRequestException;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.EngagementCounters;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts engagement in memory and periodically publishes the trending list,
+ * so neither recording nor serving it touches the database on the request
+ * path. Counters start empty after a restart.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TrendingService {
+
+    static final int MAX_TRENDING = 50;
+
+    private final EngagementCounters counters;
+    private final EstateRepository estateRepository;
+
+    private volatile List<EstateBasicResponse> trending = List.of();
+
+    public void record(Long estateId, EngagementType type) {
+        counters.record(estateId, type);
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval:PT1M}")
+    @Transactional(readOnly = true)
+    public void publish() {
+        long start = System.currentTimeMillis();
+        // estates may have left APPROVED since they were counted, so look a bit further
+        List<Long> ids = counters.top(MAX_TRENDING * 2);
+        if (ids.isEmpty()) {
+            trending = List.of();
+            return;
+        }
+        Map<Long, EstateBasicResponse> byId = estateRepository.findApprovedBasicByIdIn(ids).stream()
+                .collect(Collectors.toMap(EstateBasicResponse::getId, Function.identity()));
+        trending = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .limit(MAX_TRENDING)
+                .toList();
+        log.debug("Published {} trending estates in {} ms", trending.size(), System.currentTimeMillis() - start);
+    }
+
+    public List<EstateBasicResponse> getTrending(int limit) {
+        if (limit < 1 || limit > MAX_TRENDING) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_TRENDING);
+        }
+        List<EstateBasicResponse> current = trending;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+}
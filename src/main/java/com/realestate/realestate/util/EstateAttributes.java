@@ -0,0 +1,94 @@
+package com.realestate.realestate.util;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.realestate.realestate.dto.estate.CreateEstateRequest;
+
+import lombok.Getter;
+
+/**
+ * Typed attributes read from free-form characteristics, so they can be stored
+ * in indexed columns and filtered by range. Names are matched ignoring case
+ * and accents; values use the first number they contain ("3", "120 m²",
+ * "1,250.5"). Characteristics that are not recognised are left as they are.
+ */
+@Getter
+public class EstateAttributes {
+
+    private static final Set<String> BEDROOMS = Set.of("bedrooms", "bedroom", "beds", "recamaras", "recamara",
+            "habitaciones", "habitacion", "dormitorios", "dormitorio", "cuartos");
+    private static final Set<String> BATHROOMS = Set.of("bathrooms", "bathroom", "baths", "banos", "bano");
+    private static final Set<String> AREA = Set.of("area", "size", "m2", "m²", "superficie", "metros",
+            "metros cuadrados", "construccion", "superficie construida");
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:[.,]\\d+)*");
+    private static final Pattern THOUSANDS = Pattern.compile("[.,](?=\\d{3}(?:[.,]|$))");
+
+    // anything larger is a typo or a unit mix-up, not a listing to filter on
+    private static final int MAX_ROOMS = 100;
+    private static final double MAX_AREA = 1_000_000_000d;
+
+    private Integer bedrooms;
+    private Integer bathrooms;
+    private Double area;
+
+    public static EstateAttributes from(List<CreateEstateRequest.CharacteristicRequest> characteristics) {
+        EstateAttributes attributes = new EstateAttributes();
+        if (characteristics != null) {
+            characteristics.forEach(characteristic -> attributes.accept(characteristic.getName(),
+                    characteristic.getValue()));
+        }
+        return attributes;
+    }
+
+    /**
+     * Reads one characteristic; the first recognised value of each attribute
+     * wins.
+     */
+    public void accept(String name, String value) {
+        if (name == null || value == null) {
+            return;
+        }
+        String key = TextFolding.fold(name);
+        if (key == null) {
+            return;
+        }
+        if (bedrooms == null && BEDROOMS.contains(key)) {
+            bedrooms = rooms(value);
+        } else if (bathrooms == null && BATHROOMS.contains(key)) {
+            bathrooms = rooms(value);
+        } else if (area == null && AREA.contains(key)) {
+            Double parsed = number(value);
+            area = parsed != null && parsed > 0 && parsed <= MAX_AREA ? parsed : null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return bedrooms == null && bathrooms == null && area == null;
+    }
+
+    // half bathrooms count down, "2.5" is at least 2 bathrooms
+    private static Integer rooms(String value) {
+        Double parsed = number(value);
+        if (parsed == null || parsed > MAX_ROOMS) {
+            return null;
+        }
+        return (int) Math.floor(parsed);
+    }
+
+    static Double number(String value) {
+        Matcher matcher = NUMBER.matcher(value);
+        if (!matcher.find()) {
+            return null;
+        }
+        String digits = THOUSANDS.matcher(matcher.group()).replaceAll("").replace(',', '.');
+        try {
+            return Double.valueOf(digits);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.realestate.realestate.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.realestate.realestate.exception.common.BadRequestException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Opaque keyset position for scrolling estate listings. Encodes the sort key
+ * of the last returned row together with its id so the next slice can seek
+ * past it instead of using an OFFSET.
+ */
+@Getter
+@AllArgsConstructor
+public class EstateCursor {
+
+    public static final String SORT_CREATED_AT = "createdAt";
+    public static final String SORT_PRICE = "price";
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final LocalDateTime createdAt;
+    private final Double price;
+    private final Long id;
+
+    public static void validateSort(String sortBy) {
+        if (!SORT_CREATED_AT.equals(sortBy) && !SORT_PRICE.equals(sortBy)) {
+            throw new BadRequestException("Cursor pagination only supports sortBy 'createdAt' or 'price'");
+        }
+    }
+
+    public static EstateCursor of(String sortBy, Sort.Direction direction, LocalDateTime createdAt, Double price,
+            Long id) {
+        return new EstateCursor(sortBy, direction, createdAt, price, id);
+    }
+
+    public String encode() {
+        String sortValue = SORT_PRICE.equals(sortBy) ? String.valueOf(price) : createdAt.toString();
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EstateCursor decode(String token, String sortBy, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (parts.length != 4) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (!parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+            throw new BadRequestException("Cursor does not match the requested sort order");
+        }
+
+        try {
+            Long id = Long.valueOf(parts[3]);
+            if (id <= 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            if (SORT_PRICE.equals(sortBy)) {
+                Double price = Double.valueOf(parts[2]);
+                if (!Double.isFinite(price)) {
+                    throw new BadRequestException("Invalid cursor");
+                }
+                return new EstateCursor(sortBy, direction, null, price, id);
+            }
+            return new EstateCursor(sortBy, direction, LocalDateTime.parse(parts[2]), null, id);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.realestate.realestate.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+
+import com.realestate.realestate.dto.category.CategoryResponse;
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.dto.estate.EstateVersion;
+
+/**
+ * Cache-Control policies and validators for estate and category responses.
+ * Public responses may be kept by shared caches; anything tied to the caller is
+ * never stored.
+ */
+public final class HttpCaching {
+
+    public static final CacheControl PUBLIC_DETAIL = CacheControl.noCache().cachePublic();
+    public static final CacheControl PUBLIC_LISTING = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic();
+    public static final CacheControl PRIVATE = CacheControl.noStore();
+
+    private HttpCaching() {
+    }
+
+    public static String eTag(EstateVersion version) {
+        return "\"" + version.getId()
+                + "-" + stamp(version.getEstateUpdatedAt())
+                + "-" + stamp(version.getSellerUpdatedAt())
+                + "-" + stamp(version.getUserUpdatedAt()) + "\"";
+    }
+
+    public static long lastModified(EstateVersion version) {
+        LocalDateTime lastModified = version.getLastModified();
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Weak validator for a page of estates: the same ids in the same order, none
+     * of them updated since and the same page metadata.
+     */
+    public static String listingETag(List<EstateBasicResponse> content, Object pageState) {
+        StringBuilder key = new StringBuilder(String.valueOf(pageState));
+        LocalDateTime maxUpdatedAt = null;
+        for (EstateBasicResponse estate : content) {
+            key.append(',').append(estate.getId());
+            LocalDateTime updatedAt = estate.getUpdatedAt();
+            if (updatedAt != null && (maxUpdatedAt == null || updatedAt.isAfter(maxUpdatedAt))) {
+                maxUpdatedAt = updatedAt;
+            }
+        }
+        key.append('|').append(stamp(maxUpdatedAt));
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Strong validator for the category catalogue: names, descriptions and
+     * counts are the whole body.
+     */
+    public static String categoriesETag(List<CategoryResponse> categories) {
+        StringBuilder key = new StringBuilder();
+        for (CategoryResponse category : categories) {
+            key.append(category.getId()).append('|')
+                    .append(category.getName()).append('|')
+                    .append(category.getDescription()).append('|')
+                    .append(category.getApprovedEstatesByType()).append('\n');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Evaluates If-None-Match, or If-Modified-Since when no entity tags were
+     * sent, without needing the response body.
+     */
+    public static boolean isNotModified(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String opaqueTag = opaque(eTag);
+            return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || opaque(tag).equals(opaqueTag));
+        }
+        if (lastModified < 0) {
+            return false;
+        }
+        try {
+            long ifModifiedSince = requestHeaders.getIfModifiedSince();
+            return ifModifiedSince >= 0 && lastModified / 1000 * 1000 <= ifModifiedSince;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String stamp(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return "0";
+        }
+        return Long.toHexString(timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1000);
+    }
+}
@@ -0,0 +1,30 @@
+package com.realestate.realestate.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Case-, accent- and whitespace-insensitive keys for free-form text, so
+ * "Culiacán", "culiacan" and " Culiacan " compare equal.
+ */
+public final class TextFolding {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private TextFolding() {
+    }
+
+    /**
+     * Returns {@code null} for {@code null} or blank text.
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return null;
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        String folded = SPACES.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return folded.isEmpty() ? null : folded;
+    }
+}
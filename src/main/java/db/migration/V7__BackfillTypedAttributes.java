@@ -0,0 +1,147 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Fills the typed attribute columns added in V6 from the existing
+ * characteristics, with the parsing EstateAttributes had when this migration
+ * was written. It is copied below so later changes to EstateAttributes or
+ * TextFolding cannot change what this migration does. Characteristics are
+ * read with a cursor ordered by estate, so only one estate's rows are held at
+ * a time, and the updates are sent in JDBC batches.
+ */
+public class V7__BackfillTypedAttributes extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_CHARACTERISTICS =
+            "SELECT estate_id, name, value FROM estate_characteristics ORDER BY estate_id, id";
+    private static final String UPDATE_ESTATE =
+            "UPDATE estates SET bedrooms = ?, bathrooms = ?, area = ? WHERE id = ?";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement select = connection.createStatement();
+                PreparedStatement update = connection.prepareStatement(UPDATE_ESTATE)) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rows = select.executeQuery(SELECT_CHARACTERISTICS)) {
+                long estateId = 0;
+                Attributes attributes = null;
+                int batched = 0;
+                while (rows.next()) {
+                    long rowEstateId = rows.getLong(1);
+                    if (attributes == null || rowEstateId != estateId) {
+                        batched += addUpdate(update, estateId, attributes);
+                        if (batched == BATCH_SIZE) {
+                            update.executeBatch();
+                            batched = 0;
+                        }
+                        estateId = rowEstateId;
+                        attributes = new Attributes();
+                    }
+                    attributes.accept(rows.getString(2), rows.getString(3));
+                }
+                batched += addUpdate(update, estateId, attributes);
+                if (batched > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+    }
+
+    private static int addUpdate(PreparedStatement update, long estateId, Attributes attributes)
+            throws SQLException {
+        if (attributes == null || attributes.isEmpty()) {
+            return 0;
+        }
+        update.setObject(1, attributes.bedrooms, Types.INTEGER);
+        update.setObject(2, attributes.bathrooms, Types.INTEGER);
+        update.setObject(3, attributes.area, Types.DOUBLE);
+        update.setLong(4, estateId);
+        update.addBatch();
+        return 1;
+    }
+
+    private static final class Attributes {
+
+        private static final Set<String> BEDROOMS = Set.of("bedrooms", "bedroom", "beds", "recamaras", "recamara",
+                "habitaciones", "habitacion", "dormitorios", "dormitorio", "cuartos");
+        private static final Set<String> BATHROOMS = Set.of("bathrooms", "bathroom", "baths", "banos", "bano");
+        private static final Set<String> AREA = Set.of("area", "size", "m2", "m²", "superficie", "metros",
+                "metros cuadrados", "construccion", "superficie construida");
+
+        private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+        private static final Pattern SPACES = Pattern.compile("\\s+");
+        private static final Pattern NUMBER = Pattern.compile("\\d+(?:[.,]\\d+)*");
+        private static final Pattern THOUSANDS = Pattern.compile("[.,](?=\\d{3}(?:[.,]|$))");
+
+        private static final int MAX_ROOMS = 100;
+        private static final double MAX_AREA = 1_000_000_000d;
+
+        private Integer bedrooms;
+        private Integer bathrooms;
+        private Double area;
+
+        void accept(String name, String value) {
+            if (name == null || value == null) {
+                return;
+            }
+            String key = fold(name);
+            if (key.isEmpty()) {
+                return;
+            }
+            if (bedrooms == null && BEDROOMS.contains(key)) {
+                bedrooms = rooms(value);
+            } else if (bathrooms == null && BATHROOMS.contains(key)) {
+                bathrooms = rooms(value);
+            } else if (area == null && AREA.contains(key)) {
+                Double parsed = number(value);
+                area = parsed != null && parsed > 0 && parsed <= MAX_AREA ? parsed : null;
+            }
+        }
+
+        boolean isEmpty() {
+            return bedrooms == null && bathrooms == null && area == null;
+        }
+
+        private static String fold(String text) {
+            String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+            return SPACES.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        }
+
+        private static Integer rooms(String value) {
+            Double parsed = number(value);
+            if (parsed == null || parsed > MAX_ROOMS) {
+                return null;
+            }
+            return (int) Math.floor(parsed);
+        }
+
+        private static Double number(String value) {
+            Matcher matcher = NUMBER.matcher(value);
+            if (!matcher.find()) {
+                return null;
+            }
+            String digits = THOUSANDS.matcher(matcher.group()).replaceAll("").replace(',', '.');
+            try {
+                return Double.valueOf(digits);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+    }
+}
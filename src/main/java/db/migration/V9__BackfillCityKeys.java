@@ -0,0 +1,76 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Fills the city_key columns added in V8 with the folding TextFolding did when
+ * this migration was written, copied below so later changes to TextFolding
+ * cannot change what this migration does. There are few distinct cities, so each one is folded once into a
+ * temporary mapping table and both tables are updated with a single join.
+ */
+public class V9__BackfillCityKeys extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private static final String SELECT_CITIES = "SELECT city FROM estates UNION SELECT city FROM sellers";
+    private static final String INSERT_KEY = "INSERT INTO city_keys (city, city_key) VALUES (?, ?)";
+    private static final String UPDATE_ESTATES =
+            "UPDATE estates e SET city_key = k.city_key FROM city_keys k WHERE k.city = e.city";
+    private static final String UPDATE_SELLERS =
+            "UPDATE sellers s SET city_key = k.city_key FROM city_keys k WHERE k.city = s.city";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE city_keys (city varchar(255) PRIMARY KEY, " +
+                    "city_key varchar(255) NOT NULL)");
+            fillKeys(connection);
+            statement.executeUpdate(UPDATE_ESTATES);
+            statement.executeUpdate(UPDATE_SELLERS);
+            statement.execute("DROP TABLE city_keys");
+        }
+    }
+
+    private static void fillKeys(Connection connection) throws SQLException {
+        try (Statement select = connection.createStatement();
+                PreparedStatement insert = connection.prepareStatement(INSERT_KEY)) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet cities = select.executeQuery(SELECT_CITIES)) {
+                int batched = 0;
+                while (cities.next()) {
+                    String city = cities.getString(1);
+                    insert.setString(1, city);
+                    insert.setString(2, fold(city));
+                    insert.addBatch();
+                    if (++batched == BATCH_SIZE) {
+                        insert.executeBatch();
+                        batched = 0;
+                    }
+                }
+                if (batched > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    // blank cities predate validation; they fold to "" so city_key can be NOT NULL
+    private static String fold(String city) {
+        String stripped = MARKS.matcher(Normalizer.normalize(city, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
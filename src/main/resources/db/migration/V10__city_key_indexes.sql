@@ -0,0 +1,13 @@
+ALTER TABLE estates ALTER COLUMN city_key SET NOT NULL;
+
+ALTER TABLE sellers ALTER COLUMN city_key SET NOT NULL;
+
+-- the city filter now compares city_key, replaces the V2 index on city
+DROP INDEX idx_estates_approved_city_created_at;
+
+CREATE INDEX idx_estates_approved_city_key_created_at
+    ON estates (city_key, created_at DESC, id DESC)
+    WHERE status = 'APPROVED';
+
+CREATE INDEX idx_sellers_city_key
+    ON sellers (city_key);
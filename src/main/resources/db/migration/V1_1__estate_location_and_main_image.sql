@@ -0,0 +1,10 @@
+-- Columns the entities gained after the V1 baseline: the map position of an
+-- estate and the image shown on listing cards. IF NOT EXISTS because a
+-- database kept up to date by ddl-auto=update may already have them when it
+-- is baselined at V1.
+
+ALTER TABLE estates ADD COLUMN IF NOT EXISTS latitude float(53);
+
+ALTER TABLE estates ADD COLUMN IF NOT EXISTS longitude float(53);
+
+ALTER TABLE estates ADD COLUMN IF NOT EXISTS main_image_url varchar(255);
@@ -0,0 +1,10 @@
+-- Estates created before main_image_url existed show their first image on
+-- listing cards, the same one EstateService picks for new estates.
+
+UPDATE estates e
+SET main_image_url = first_image.s3url
+FROM (SELECT DISTINCT ON (estate_id) estate_id, s3url
+      FROM estate_images
+      ORDER BY estate_id, id) first_image
+WHERE first_image.estate_id = e.id
+  AND e.main_image_url IS NULL;
@@ -0,0 +1,188 @@
+-- Baseline schema, matching what hibernate.ddl-auto=update produced before
+-- migrations took over. Existing databases are baselined at this version.
+
+CREATE TABLE appointments (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    appointment_date timestamp(6) NOT NULL,
+    client_id bigint NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    estate_id bigint NOT NULL,
+    seller_id bigint NOT NULL,
+    updated_at timestamp(6),
+    message text,
+    seller_notes text,
+    status varchar(255) NOT NULL CHECK (status IN ('PENDING','CONFIRMED','CANCELLED','COMPLETED','REJECTED')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE categories (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    description text NOT NULL,
+    name varchar(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE characteristic_images (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    characteristic_id bigint NOT NULL,
+    s3url varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE email_verification_tokens (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    created_at timestamp(6),
+    expires_at timestamp(6) NOT NULL,
+    user_id bigint NOT NULL,
+    verified_at timestamp(6),
+    token varchar(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE estate_characteristics (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    estate_id bigint NOT NULL,
+    name varchar(255) NOT NULL,
+    value varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE estate_images (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    estate_id bigint NOT NULL,
+    s3url varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE estates (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    price float(53) NOT NULL,
+    category_id bigint NOT NULL,
+    created_at timestamp(6),
+    seller_id bigint NOT NULL,
+    updated_at timestamp(6),
+    address varchar(255) NOT NULL,
+    city varchar(255) NOT NULL,
+    description text NOT NULL,
+    name varchar(255) NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('WAITING_FOR_APPROVAL','APPROVED','REJECTED','SOLD','RENTED')),
+    type varchar(255) NOT NULL CHECK (type IN ('SALE','RENT')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE favorites (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    created_at timestamp(6) NOT NULL,
+    estate_id bigint NOT NULL,
+    user_id bigint NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (user_id, estate_id)
+);
+
+CREATE TABLE messages (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    appointment_id bigint NOT NULL,
+    sender_id bigint NOT NULL,
+    timestamp timestamp(6) NOT NULL,
+    content text NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE notifications (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    receiver_id bigint NOT NULL,
+    sender_id bigint NOT NULL,
+    timestamp timestamp(6),
+    content text NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE refresh_tokens (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    revoked boolean NOT NULL,
+    created_at timestamp(6),
+    expires_at timestamp(6) NOT NULL,
+    user_id bigint NOT NULL,
+    token varchar(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE roles (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    name varchar(255) NOT NULL UNIQUE CHECK (name IN ('USER','SELLER','ADMIN')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE seller_reviews (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    rating integer NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    seller_id bigint NOT NULL,
+    user_id bigint NOT NULL,
+    comment varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE sellers (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    rating float(53) NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    user_id bigint NOT NULL UNIQUE,
+    verified_at timestamp(6),
+    license_number varchar(50),
+    company_name varchar(100),
+    address varchar(255) NOT NULL,
+    bio text,
+    city varchar(255) NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('PENDING','APPROVED','REJECTED')),
+    verification_documents text,
+    verification_notes text,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE user_roles (
+    role_id bigint NOT NULL,
+    user_id bigint NOT NULL,
+    PRIMARY KEY (role_id, user_id)
+);
+
+CREATE TABLE users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    email_verified boolean NOT NULL,
+    enabled boolean NOT NULL,
+    created_at timestamp(6),
+    email_verified_at timestamp(6),
+    updated_at timestamp(6),
+    contact_number varchar(255) NOT NULL,
+    email varchar(255) NOT NULL UNIQUE,
+    last_name varchar(255) NOT NULL,
+    middle_name varchar(255),
+    name varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    profile_picture varchar(255),
+    second_last_name varchar(255),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE appointments ADD CONSTRAINT FKgdcpcx3yc2abu5oyb2078lc24 FOREIGN KEY (client_id) REFERENCES users;
+ALTER TABLE appointments ADD CONSTRAINT FKgvt2e7m70w73wp6ntudgtlbbl FOREIGN KEY (estate_id) REFERENCES estates;
+ALTER TABLE appointments ADD CONSTRAINT FKfl6xfg4soss34pwa94fay09pb FOREIGN KEY (seller_id) REFERENCES sellers;
+ALTER TABLE characteristic_images ADD CONSTRAINT FK1r6finjbfdkkeftojk0fc73kg FOREIGN KEY (characteristic_id) REFERENCES estate_characteristics;
+ALTER TABLE email_verification_tokens ADD CONSTRAINT FKi1c4mmamlb8keqt74k4lrtwhc FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE estate_characteristics ADD CONSTRAINT FK2visy111xhvlus7h37qdf32pl FOREIGN KEY (estate_id) REFERENCES estates;
+ALTER TABLE estate_images ADD CONSTRAINT FK9oeyay1sywwpxxftupqb8apin FOREIGN KEY (estate_id) REFERENCES estates;
+ALTER TABLE estates ADD CONSTRAINT FK4rd4k3kbyyf9omc992kfu3m7h FOREIGN KEY (category_id) REFERENCES categories;
+ALTER TABLE estates ADD CONSTRAINT FK6ulnrrq2px306gi4lxpil7wq3 FOREIGN KEY (seller_id) REFERENCES sellers;
+ALTER TABLE favorites ADD CONSTRAINT FK6ukdabkygajgd5skt3k58prxp FOREIGN KEY (estate_id) REFERENCES estates;
+ALTER TABLE favorites ADD CONSTRAINT FKk7du8b8ewipawnnpg76d55fus FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE messages ADD CONSTRAINT FK52y5b1glrautfgg9w73xjrybu FOREIGN KEY (appointment_id) REFERENCES appointments;
+ALTER TABLE messages ADD CONSTRAINT FK4ui4nnwntodh6wjvck53dbk9m FOREIGN KEY (sender_id) REFERENCES users;
+ALTER TABLE notifications ADD CONSTRAINT FK9kxl0whvhifo6gw4tjq36v53k FOREIGN KEY (receiver_id) REFERENCES users;
+ALTER TABLE notifications ADD CONSTRAINT FK13vcnq3ukas06ho1yrbc5lrb5 FOREIGN KEY (sender_id) REFERENCES users;
+ALTER TABLE refresh_tokens ADD CONSTRAINT FK1lih5y2npsf8u5o3vhdb9y0os FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE seller_reviews ADD CONSTRAINT FK3gxsefvgti0ewdiuxvfcm8cuw FOREIGN KEY (seller_id) REFERENCES sellers;
+ALTER TABLE seller_reviews ADD CONSTRAINT FKk5d62530x5sxcraopct3qd9u0 FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE sellers ADD CONSTRAINT FKjnqi0k1rlkb8h3fus7f5wfqd1 FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE user_roles ADD CONSTRAINT FKh8ciramu9cc9q3qcqiv4ue8a6 FOREIGN KEY (role_id) REFERENCES roles;
+ALTER TABLE user_roles ADD CONSTRAINT FKhfh9dx7w3ubf1co1vdev94g3f FOREIGN KEY (user_id) REFERENCES users;
@@ -0,0 +1,51 @@
+-- Indexes for the listing and lookup queries. Public estate queries always
+-- filter status = 'APPROVED', so those indexes are partial on that predicate
+-- and carry the sort columns (with id as the tie breaker used by keyset
+-- scrolling) so a page can be read in order and stop after LIMIT rows.
+-- Plans before/after on seeded data: ListingIndexBenchmarkTest (-Pbenchmark).
+
+-- newest-first listings; type and category filters are not selective enough
+-- to deserve their own createdAt index, they are applied while walking this one
+CREATE INDEX idx_estates_approved_created_at
+    ON estates (created_at DESC, id DESC)
+    WHERE status = 'APPROVED';
+
+-- price-sorted listings and scrolling (scanned backwards for DESC)
+CREATE INDEX idx_estates_approved_price
+    ON estates (price, id)
+    WHERE status = 'APPROVED';
+
+-- sale and rent prices live on different scales, so a price walk over all
+-- approved estates would skip every sale listing before the first rental
+CREATE INDEX idx_estates_approved_type_price
+    ON estates (type, price, id)
+    WHERE status = 'APPROVED';
+
+-- city filter, the most selective filter the listing UI sends
+CREATE INDEX idx_estates_approved_city_created_at
+    ON estates (city, created_at DESC, id DESC)
+    WHERE status = 'APPROVED';
+
+-- admin approval queue
+CREATE INDEX idx_estates_pending_created_at
+    ON estates (created_at)
+    WHERE status = 'WAITING_FOR_APPROVAL';
+
+-- seller's own listings
+CREATE INDEX idx_estates_seller_created_at
+    ON estates (seller_id, created_at DESC);
+
+-- seller and client appointment lists, conflict check
+CREATE INDEX idx_appointments_seller_date
+    ON appointments (seller_id, appointment_date);
+
+CREATE INDEX idx_appointments_client_date
+    ON appointments (client_id, appointment_date);
+
+-- user's favorites, newest first
+CREATE INDEX idx_favorites_user_created_at
+    ON favorites (user_id, created_at DESC);
+
+-- expired refresh token cleanup
+CREATE INDEX idx_refresh_tokens_expires_at
+    ON refresh_tokens (expires_at);
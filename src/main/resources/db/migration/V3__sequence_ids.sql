@@ -0,0 +1,30 @@
+-- Estates, their images and characteristics, favorites and appointments move
+-- from IDENTITY to pooled sequences (allocationSize = 50 in the entities) so
+-- Hibernate can batch their inserts. The identity is dropped and the column
+-- defaults to the sequence, so plain SQL inserts (bulk import) keep working:
+-- a nextval taken by the database is the top of a block nobody else uses.
+
+ALTER TABLE estates ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE estates_seq INCREMENT BY 50 OWNED BY estates.id;
+SELECT setval('estates_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM estates), false);
+ALTER TABLE estates ALTER COLUMN id SET DEFAULT nextval('estates_seq');
+
+ALTER TABLE estate_images ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE estate_images_seq INCREMENT BY 50 OWNED BY estate_images.id;
+SELECT setval('estate_images_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM estate_images), false);
+ALTER TABLE estate_images ALTER COLUMN id SET DEFAULT nextval('estate_images_seq');
+
+ALTER TABLE estate_characteristics ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE estate_characteristics_seq INCREMENT BY 50 OWNED BY estate_characteristics.id;
+SELECT setval('estate_characteristics_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM estate_characteristics), false);
+ALTER TABLE estate_characteristics ALTER COLUMN id SET DEFAULT nextval('estate_characteristics_seq');
+
+ALTER TABLE favorites ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE favorites_seq INCREMENT BY 50 OWNED BY favorites.id;
+SELECT setval('favorites_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM favorites), false);
+ALTER TABLE favorites ALTER COLUMN id SET DEFAULT nextval('favorites_seq');
+
+ALTER TABLE appointments ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE appointments_seq INCREMENT BY 50 OWNED BY appointments.id;
+SELECT setval('appointments_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM appointments), false);
+ALTER TABLE appointments ALTER COLUMN id SET DEFAULT nextval('appointments_seq');
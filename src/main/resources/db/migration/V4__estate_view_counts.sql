@@ -0,0 +1,8 @@
+-- Detail page views per estate, flushed in batches from memory. A separate
+-- table keeps the counter updates off the estates row (its locks, its
+-- updated_at and anything cached from it).
+
+CREATE TABLE estate_view_counts (
+    estate_id bigint NOT NULL PRIMARY KEY REFERENCES estates ON DELETE CASCADE,
+    views bigint NOT NULL
+);
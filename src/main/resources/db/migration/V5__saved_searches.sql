@@ -0,0 +1,21 @@
+-- Saved search filters for new-estate alerts. Null columns leave that filter
+-- open. The in-memory index is rebuilt from this table on startup.
+
+CREATE SEQUENCE saved_searches_seq INCREMENT BY 50;
+
+CREATE TABLE saved_searches (
+    id bigint NOT NULL DEFAULT nextval('saved_searches_seq'),
+    user_id bigint NOT NULL REFERENCES users ON DELETE CASCADE,
+    name varchar(255) NOT NULL,
+    city varchar(255),
+    type varchar(255) CHECK (type IN ('SALE','RENT')),
+    category_id bigint REFERENCES categories ON DELETE CASCADE,
+    min_price float(53),
+    max_price float(53),
+    created_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+ALTER SEQUENCE saved_searches_seq OWNED BY saved_searches.id;
+
+CREATE INDEX idx_saved_searches_user ON saved_searches (user_id, created_at DESC);
@@ -0,0 +1,21 @@
+-- Typed copies of the bedrooms, bathrooms and area characteristics so the
+-- listing filters can compare numbers in an index instead of parsing
+-- estate_characteristics rows. Existing rows are filled in by V7.
+
+ALTER TABLE estates
+    ADD COLUMN bedrooms integer,
+    ADD COLUMN bathrooms integer,
+    ADD COLUMN area float(53);
+
+-- "at least N bedrooms" and area ranges on public listings
+CREATE INDEX idx_estates_approved_bedrooms
+    ON estates (bedrooms, id)
+    WHERE status = 'APPROVED';
+
+CREATE INDEX idx_estates_approved_bathrooms
+    ON estates (bathrooms, id)
+    WHERE status = 'APPROVED';
+
+CREATE INDEX idx_estates_approved_area
+    ON estates (area, id)
+    WHERE status = 'APPROVED';
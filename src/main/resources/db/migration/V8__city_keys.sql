@@ -0,0 +1,7 @@
+-- Folded (case-, accent- and whitespace-insensitive) city next to the city
+-- as entered, so "Culiacán", "culiacan" and "Culiacan " filter as one city.
+-- Filled by V9 and made NOT NULL and indexed by V10.
+
+ALTER TABLE estates ADD COLUMN city_key varchar(255);
+
+ALTER TABLE sellers ADD COLUMN city_key varchar(255);
@@ -0,0 +1,174 @@
+package com.realestate.realestate.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.entity.EstateCharacteristic;
+import com.realestate.realestate.entity.EstateImage;
+import com.realestate.realestate.entity.Seller;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.EstateType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Latency and statement count of persisting an estate the way createEstate
+ * does (20 images, 15 characteristics): once with the old IDENTITY ids and no
+ * JDBC batching (db/benchmark/identity-orm.xml), once with the pooled sequences
+ * and batch settings of application.properties.
+ *
+ * <p>Needs an empty, disposable PostgreSQL database:
+ * {@code mvn test -Pbenchmark -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/realestate_benchmark}
+ */
+@Tag("benchmark")
+class EstateCreationBenchmarkTest {
+
+    private static final String URL = System.getProperty("benchmark.db.url",
+            "jdbc:postgresql://localhost:5432/realestate_benchmark");
+    private static final String USER = System.getProperty("benchmark.db.username", "postgres");
+    private static final String PASSWORD = System.getProperty("benchmark.db.password", "");
+
+    private static final int IMAGES = 20;
+    private static final int CHARACTERISTICS = 15;
+    private static final int WARMUP = 50;
+    private static final int RUNS = 300;
+
+    @Test
+    void sequenceIdsBatchEstateInserts() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(URL);
+        dataSource.setUsername(USER);
+        dataSource.setPassword(PASSWORD);
+        try (dataSource) {
+            run(dataSource);
+        }
+    }
+
+    private void run(DataSource dataSource) {
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        seedOwner(new JdbcTemplate(dataSource));
+
+        Result before = measure(dataSource, false);
+        Result after = measure(dataSource, true);
+
+        System.out.printf("%n%-28s %12s %12s%n", "", "statements", "ms/estate");
+        System.out.printf("%-28s %12.1f %12.3f%n", "IDENTITY, no batching", before.statements(), before.millis());
+        System.out.printf("%-28s %12.1f %12.3f%n", "pooled sequences, batched", after.statements(), after.millis());
+
+        assertThat(before.statements()).isGreaterThanOrEqualTo(1 + IMAGES + CHARACTERISTICS);
+        assertThat(after.statements()).isLessThan(10);
+        assertThat(after.millis()).isLessThan(before.millis());
+    }
+
+    private Result measure(DataSource dataSource, boolean batched) {
+        EntityManagerFactory factory = entityManagerFactory(dataSource, batched);
+        try {
+            Statistics statistics = factory.unwrap(SessionFactory.class).getStatistics();
+            for (int i = 0; i < WARMUP; i++) {
+                createEstate(factory, i);
+            }
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < RUNS; i++) {
+                createEstate(factory, i);
+            }
+            double millis = (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+            return new Result((double) statistics.getPrepareStatementCount() / RUNS, millis);
+        } finally {
+            factory.close();
+        }
+    }
+
+    // mirrors EstateService.createEstate: references to seller and category, then one cascading persist
+    private static void createEstate(EntityManagerFactory factory, int n) {
+        EntityManager entityManager = factory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Estate estate = Estate.builder()
+                    .name("Benchmark estate " + n)
+                    .description("Estate created by the insert benchmark")
+                    .price(1_000_000 + n)
+                    .type(EstateType.SALE)
+                    .category(entityManager.getReference(Category.class, 1L))
+                    .seller(entityManager.getReference(Seller.class, 1L))
+                    .city("Culiacan")
+                    .address("Street " + n)
+                    .status(EstateStatus.WAITING_FOR_APPROVAL)
+                    .mainImageUrl("https://img/" + n + "/0.jpg")
+                    .build();
+            for (int i = 0; i < IMAGES; i++) {
+                estate.getImages().add(EstateImage.builder()
+                        .estate(estate)
+                        .s3url("https://img/" + n + "/" + i + ".jpg")
+                        .build());
+            }
+            for (int i = 0; i < CHARACTERISTICS; i++) {
+                estate.getCharacteristics().add(EstateCharacteristic.builder()
+                        .estate(estate)
+                        .name("feature " + i)
+                        .value("value " + i)
+                        .build());
+            }
+            entityManager.persist(estate);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static EntityManagerFactory entityManagerFactory(DataSource dataSource, boolean batched) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.generate_statistics", "true");
+        properties.put("hibernate.session.events.log", "false");
+        if (batched) {
+            properties.put("hibernate.jdbc.batch_size", "50");
+            properties.put("hibernate.order_inserts", "true");
+            properties.put("hibernate.order_updates", "true");
+        }
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.realestate.realestate.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(properties);
+        if (!batched) {
+            factory.setMappingResources("db/benchmark/identity-orm.xml");
+        }
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static void seedOwner(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (id, email_verified, enabled, contact_number, email, last_name, name, password) "
+                + "VALUES (1, true, true, '6670000000', 'bench@bench.test', 'Bench', 'Seller', 'x')");
+        jdbcTemplate.update("INSERT INTO sellers (id, rating, user_id, address, city, status) "
+                + "VALUES (1, 5.0, 1, 'Centro', 'Culiacan', 'APPROVED')");
+        jdbcTemplate.update("INSERT INTO categories (id, name, description) VALUES (1, 'House', 'Houses')");
+    }
+
+    private record Result(double statements, double millis) {
+    }
+}
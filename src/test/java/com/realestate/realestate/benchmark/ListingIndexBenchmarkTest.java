@@ -0,0 +1,170 @@
+package com.realestate.realestate.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Shows the plan change of every index added by V2__listing_indexes.sql. The
+ * database is cleaned, migrated to V1, seeded with db/benchmark/seed.sql and
+ * each listing query is explained; then V2 is applied and the queries are
+ * explained again. The queries are written the way PostgreSQL sees the
+ * repository queries once the optional filters are bound.
+ *
+ * <p>Needs an empty, disposable PostgreSQL database:
+ * {@code mvn test -Pbenchmark -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/realestate_benchmark}
+ */
+@Tag("benchmark")
+class ListingIndexBenchmarkTest {
+
+    private static final String URL = System.getProperty("benchmark.db.url",
+            "jdbc:postgresql://localhost:5432/realestate_benchmark");
+    private static final String USER = System.getProperty("benchmark.db.username", "postgres");
+    private static final String PASSWORD = System.getProperty("benchmark.db.password", "");
+
+    private static final Map<String, String[]> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("all estates, newest first", new String[] { "idx_estates_approved_created_at",
+                "SELECT id FROM estates WHERE status = 'APPROVED' ORDER BY created_at DESC, id DESC LIMIT 20" });
+        QUERIES.put("all estates, cheapest first", new String[] { "idx_estates_approved_price",
+                "SELECT id FROM estates WHERE status = 'APPROVED' ORDER BY price, id LIMIT 20" });
+        QUERIES.put("for sale, newest first", new String[] { "idx_estates_approved_created_at",
+                "SELECT id FROM estates WHERE status = 'APPROVED' AND type = 'SALE' "
+                        + "ORDER BY created_at DESC, id DESC LIMIT 20" });
+        QUERIES.put("for rent, most expensive first", new String[] { "idx_estates_approved_type_price",
+                "SELECT id FROM estates WHERE status = 'APPROVED' AND type = 'RENT' "
+                        + "ORDER BY price DESC, id DESC LIMIT 20" });
+        QUERIES.put("city, newest first", new String[] { "idx_estates_approved_city_created_at",
+                "SELECT id FROM estates WHERE status = 'APPROVED' AND city = 'City 7' "
+                        + "ORDER BY created_at DESC, id DESC LIMIT 20" });
+        QUERIES.put("category, newest first", new String[] { "idx_estates_approved_created_at",
+                "SELECT id FROM estates WHERE status = 'APPROVED' AND category_id = 3 "
+                        + "ORDER BY created_at DESC, id DESC LIMIT 20" });
+        QUERIES.put("approval queue", new String[] { "idx_estates_pending_created_at",
+                "SELECT id FROM estates WHERE status = 'WAITING_FOR_APPROVAL' ORDER BY created_at LIMIT 10" });
+        QUERIES.put("seller's estates", new String[] { "idx_estates_seller_created_at",
+                "SELECT id FROM estates WHERE seller_id = 42 ORDER BY created_at DESC LIMIT 10" });
+        QUERIES.put("seller's appointments", new String[] { "idx_appointments_seller_date",
+                "SELECT id FROM appointments WHERE seller_id = 42 ORDER BY appointment_date DESC LIMIT 10" });
+        QUERIES.put("appointment conflict check", new String[] { "idx_appointments_seller_date",
+                "SELECT count(*) > 0 FROM appointments WHERE seller_id = 42 "
+                        + "AND appointment_date = date_trunc('hour', now()) + interval '42 hours' "
+                        + "AND status IN ('PENDING', 'CONFIRMED')" });
+        QUERIES.put("client's appointments", new String[] { "idx_appointments_client_date",
+                "SELECT id FROM appointments WHERE client_id = 5000 ORDER BY appointment_date DESC LIMIT 10" });
+        QUERIES.put("user's favorites", new String[] { "idx_favorites_user_created_at",
+                "SELECT id FROM favorites WHERE user_id = 5000 ORDER BY created_at DESC LIMIT 10" });
+        QUERIES.put("expired refresh tokens", new String[] { "idx_refresh_tokens_expires_at",
+                "SELECT id FROM refresh_tokens WHERE expires_at < now() - interval '28 days'" });
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void listingIndexesReplaceScansAndSorts() throws Exception {
+        Flyway baseline = flyway().target("1").load();
+        baseline.clean();
+        baseline.migrate();
+        execute(StreamUtils.copyToString(new ClassPathResource("db/benchmark/seed.sql").getInputStream(),
+                StandardCharsets.UTF_8));
+
+        Map<String, Plan> before = explainAll();
+
+        // V2 only: later migrations replace some of these indexes (V10 moves the city one to city_key)
+        flyway().target("2").load().migrate();
+        execute("ANALYZE");
+
+        Map<String, Plan> after = explainAll();
+
+        System.out.printf("%n%-30s | %-60s %9s | %-60s %9s%n", "query", "before (V1)", "ms", "after (V2)", "ms");
+        QUERIES.forEach((name, query) -> {
+            Plan b = before.get(name);
+            Plan a = after.get(name);
+            System.out.printf("%-30s | %-60s %9.3f | %-60s %9.3f%n", name, b.summary(), b.millis(), a.summary(),
+                    a.millis());
+        });
+
+        QUERIES.forEach((name, query) -> assertThat(after.get(name).indexes())
+                .as("plan for '%s'", name)
+                .contains(query[0]));
+    }
+
+    private FluentConfiguration flyway() {
+        return Flyway.configure()
+                .dataSource(URL, USER, PASSWORD)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false);
+    }
+
+    private Map<String, Plan> explainAll() throws SQLException {
+        Map<String, Plan> plans = new LinkedHashMap<>();
+        for (Map.Entry<String, String[]> query : QUERIES.entrySet()) {
+            plans.put(query.getKey(), explain(query.getValue()[1]));
+        }
+        return plans;
+    }
+
+    private Plan explain(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
+                Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql)) {
+            result.next();
+            JsonNode root = objectMapper.readTree(result.getString(1)).get(0);
+            List<String> nodes = new ArrayList<>();
+            List<String> indexes = new ArrayList<>();
+            collect(root.get("Plan"), nodes, indexes);
+            return new Plan(nodes, indexes, root.get("Execution Time").asDouble());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void collect(JsonNode node, List<String> nodes, List<String> indexes) {
+        nodes.add(node.get("Node Type").asText());
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        if (node.has("Plans")) {
+            node.get("Plans").forEach(child -> collect(child, nodes, indexes));
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private record Plan(List<String> nodes, List<String> indexes, double millis) {
+
+        String summary() {
+            String plan = String.join(" > ", nodes);
+            if (!indexes.isEmpty()) {
+                plan += " [" + String.join(", ", indexes) + "]";
+            }
+            return plan.length() > 60 ? plan.substring(0, 57) + "..." : plan;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.realestate.realestate.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.search.IndexedCharacteristic;
+import com.realestate.realestate.search.IndexedEstate;
+import com.realestate.realestate.search.SimilarEstateIndex;
+
+/**
+ * Latency of a similar-estates lookup over 100k indexed listings with ten
+ * characteristics each. Runs in memory, no database needed:
+ * {@code mvn test -Pbenchmark -Dtest=SimilarEstateBenchmarkTest}
+ */
+@Tag("benchmark")
+class SimilarEstateBenchmarkTest {
+
+    private static final int ESTATES = 100_000;
+    private static final int CHARACTERISTICS = 10;
+    private static final int WARMUP = 2_000;
+    private static final int RUNS = 2_000;
+
+    @Test
+    void similarLookupStaysUnderFiveMillis() {
+        Random random = new Random(42);
+        List<IndexedCharacteristic> characteristics = new ArrayList<>();
+        List<IndexedEstate> estates = new ArrayList<>();
+        for (long id = 1; id <= ESTATES; id++) {
+            EstateType type = random.nextInt(4) == 0 ? EstateType.RENT : EstateType.SALE;
+            double price = type == EstateType.RENT ? 500 + random.nextInt(5_000) : 50_000 + random.nextInt(2_000_000);
+            estates.add(new IndexedEstate(id, "City " + random.nextInt(200), type, 1L + random.nextInt(12), price,
+                    LocalDateTime.now()));
+            for (int c = 0; c < CHARACTERISTICS; c++) {
+                characteristics.add(new IndexedCharacteristic(id, "feature " + random.nextInt(40),
+                        String.valueOf(random.nextInt(5))));
+            }
+        }
+
+        SimilarEstateIndex index = new SimilarEstateIndex();
+        index.rebuild(estates.stream(), characteristics.stream());
+
+        long[] ids = LongStream.generate(() -> 1 + random.nextInt(ESTATES)).limit(WARMUP + RUNS).toArray();
+        for (int i = 0; i < WARMUP; i++) {
+            index.similarTo(ids[i], 6);
+        }
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            assertThat(index.similarTo(ids[WARMUP + i], 6)).hasValueSatisfying(similar -> assertThat(similar).hasSize(6));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        double p50 = nanos[RUNS / 2] / 1e6;
+        double p99 = nanos[RUNS * 99 / 100] / 1e6;
+        System.out.printf("%nsimilar estates over %d listings: p50 %.3f ms, p99 %.3f ms%n", ESTATES, p50, p99);
+
+        assertThat(p50).isLessThan(5.0);
+    }
+}
@@ -0,0 +1,136 @@
+package com.realestate.realestate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.realestate.realestate.dto.category.CategoryResponse;
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.CategoryCreatedEvent;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.repository.CategoryRepository;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.IndexedEstate;
+
+class CategoryCatalogueTest {
+
+    private CategoryRepository categoryRepository;
+    private EstateRepository estateRepository;
+    private CategoryCatalogue catalogue;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        estateRepository = mock(EstateRepository.class);
+        catalogue = new CategoryCatalogue(mock(PlatformTransactionManager.class), categoryRepository,
+                estateRepository);
+
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "House"), category(2L, "Flat")));
+        when(estateRepository.streamApprovedForIndex()).thenAnswer(invocation -> Stream.of(
+                estate(1L, 1L, EstateType.SALE), estate(2L, 1L, EstateType.SALE), estate(3L, 1L, EstateType.SALE),
+                estate(4L, 1L, EstateType.RENT), estate(5L, 1L, EstateType.RENT)));
+    }
+
+    @Test
+    void snapshotCarriesApprovedCountsPerCategoryAndType() {
+        List<CategoryResponse> categories = catalogue.get().categories();
+
+        assertThat(categories).extracting(CategoryResponse::getName).containsExactly("House", "Flat");
+        assertThat(categories.get(0).getApprovedEstates()).isEqualTo(5);
+        assertThat(categories.get(0).getApprovedEstatesByType())
+                .isEqualTo(Map.of(EstateType.SALE, 3L, EstateType.RENT, 2L));
+        assertThat(categories.get(1).getApprovedEstates()).isZero();
+
+        catalogue.get();
+        verify(estateRepository, times(1)).streamApprovedForIndex();
+    }
+
+    @Test
+    void statusTransitionsMoveTheCountersAndTheETag() {
+        String eTag = catalogue.get().eTag();
+
+        catalogue.onEstateChanged(change(6L, 2L, EstateType.RENT, EstateStatus.WAITING_FOR_APPROVAL,
+                EstateStatus.APPROVED));
+        catalogue.onEstateChanged(change(1L, 1L, EstateType.SALE, EstateStatus.APPROVED, EstateStatus.SOLD));
+
+        CategoryCatalogue.Snapshot updated = catalogue.get();
+        assertThat(updated.eTag()).isNotEqualTo(eTag);
+        assertThat(updated.categories().get(0).getApprovedEstatesByType().get(EstateType.SALE)).isEqualTo(2);
+        assertThat(updated.categories().get(1).getApprovedEstatesByType().get(EstateType.RENT)).isEqualTo(1);
+
+        catalogue.onEstateChanged(change(7L, 1L, EstateType.SALE, null, EstateStatus.WAITING_FOR_APPROVAL));
+        catalogue.onEstateChanged(change(2L, 1L, EstateType.SALE, EstateStatus.APPROVED, EstateStatus.APPROVED));
+        catalogue.onEstateChanged(change(1L, 1L, EstateType.SALE, EstateStatus.APPROVED, EstateStatus.SOLD));
+        assertThat(catalogue.get()).isSameAs(updated);
+    }
+
+    @Test
+    void approvedEstateEditedIntoAnotherCategoryMovesItsCount() {
+        catalogue.get();
+
+        catalogue.onEstateChanged(change(4L, 2L, EstateType.SALE, EstateStatus.APPROVED, EstateStatus.APPROVED));
+
+        List<CategoryResponse> categories = catalogue.get().categories();
+        assertThat(categories.get(0).getApprovedEstatesByType())
+                .isEqualTo(Map.of(EstateType.SALE, 3L, EstateType.RENT, 1L));
+        assertThat(categories.get(1).getApprovedEstatesByType().get(EstateType.SALE)).isEqualTo(1);
+    }
+
+    @Test
+    void newCategoryRebuildsTheCatalogue() {
+        catalogue.get();
+
+        when(categoryRepository.findAll()).thenReturn(
+                List.of(category(1L, "House"), category(2L, "Flat"), category(3L, "Land")));
+        catalogue.onCategoryCreated(new CategoryCreatedEvent(3L));
+
+        List<CategoryResponse> categories = catalogue.get().categories();
+        assertThat(categories).extracting(CategoryResponse::getName).containsExactly("House", "Flat", "Land");
+        assertThat(categories.get(0).getApprovedEstates()).isEqualTo(5);
+        assertThat(categories.get(2).getApprovedEstates()).isZero();
+        verify(estateRepository, times(2)).streamApprovedForIndex();
+    }
+
+    @Test
+    void transitionsDuringTheLoadAreReplayedWithoutCountingTwice() {
+        // both commit while the estates are being read; estate 3 is already in what was read
+        when(estateRepository.streamApprovedForIndex()).thenAnswer(invocation -> {
+            catalogue.onEstateChanged(change(3L, 1L, EstateType.SALE, EstateStatus.WAITING_FOR_APPROVAL,
+                    EstateStatus.APPROVED));
+            catalogue.onEstateChanged(change(8L, 2L, EstateType.SALE, EstateStatus.WAITING_FOR_APPROVAL,
+                    EstateStatus.APPROVED));
+            return Stream.of(estate(1L, 1L, EstateType.SALE), estate(2L, 1L, EstateType.SALE),
+                    estate(3L, 1L, EstateType.SALE));
+        });
+
+        List<CategoryResponse> categories = catalogue.get().categories();
+        assertThat(categories.get(0).getApprovedEstates()).isEqualTo(3);
+        assertThat(categories.get(1).getApprovedEstates()).isEqualTo(1);
+    }
+
+    private static Category category(Long id, String name) {
+        return Category.builder().id(id).name(name).description(name + "s").build();
+    }
+
+    private static IndexedEstate estate(Long id, Long categoryId, EstateType type) {
+        return new IndexedEstate(id, "Madrid", type, categoryId, 100_000, LocalDateTime.now());
+    }
+
+    private static EstateChangedEvent change(Long id, Long categoryId, EstateType type, EstateStatus from,
+            EstateStatus to) {
+        return new EstateChangedEvent(estate(id, categoryId, type), from, to);
+    }
+}
@@ -0,0 +1,128 @@
+package com.realestate.realestate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.realestate.realestate.dto.estate.EstateResponse;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.event.SellerChangedEvent;
+import com.realestate.realestate.exception.common.ResourceNotFoundException;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.IndexedEstate;
+
+class EstateResponseCacheTest {
+
+    private EstateRepository estateRepository;
+    private EstateResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        estateRepository = mock(EstateRepository.class);
+        cache = new EstateResponseCache(mock(PlatformTransactionManager.class), estateRepository,
+                1024 * 1024, Duration.ofMinutes(30));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<EstateResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(1L, id -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return estate(id);
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<EstateResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void estateAndSellerChangesDropEntries() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(3L, this::load);
+
+        cache.onEstateChanged(new EstateChangedEvent(
+                new IndexedEstate(1L, "Madrid", EstateType.SALE, 1L, 100_000, LocalDateTime.now()),
+                EstateStatus.APPROVED, EstateStatus.SOLD));
+        when(estateRepository.findIdsBySellerId(7L)).thenReturn(List.of(2L));
+        cache.onSellerChanged(new SellerChangedEvent(7L));
+
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(3L, this::load);
+
+        assertThat(loads).hasValue(5);
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void missingEstatesAreNotCached() {
+        assertThatThrownBy(() -> cache.get(9L, id -> {
+            loads.incrementAndGet();
+            throw new ResourceNotFoundException("Estate not found with id: " + id);
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        cache.get(9L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void weightGrowsWithContent() {
+        EstateResponse small = estate(1L);
+        EstateResponse large = estate(2L);
+        large.setDescription("x".repeat(10_000));
+
+        assertThat(EstateResponseCache.weigh(large)).isGreaterThan(EstateResponseCache.weigh(small) + 19_000);
+    }
+
+    private EstateResponse load(Long id) {
+        loads.incrementAndGet();
+        return estate(id);
+    }
+
+    private static EstateResponse estate(Long id) {
+        return EstateResponse.builder().id(id).name("Estate " + id).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.realestate.realestate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.realestate.realestate.dto.common.SliceResponse;
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.enums.CountMode;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.search.IndexedEstate;
+
+class ListingPageCacheTest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+
+    private ListingPageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ListingPageCache(mock(PlatformTransactionManager.class), 100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void equivalentFiltersShareAnEntry() {
+        cache.get(key("Culiacan", new BigDecimal("100000.00")), this::load);
+        cache.get(key("Culiacan", new BigDecimal("1E+5")), this::load);
+        cache.get(key("culiacán ", new BigDecimal("100000")), this::load);
+        cache.get(key("Mazatlan", new BigDecimal("100000")), this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void approvalDropsOnlyMatchingPages() {
+        cache.get(key("Culiacan", null), this::load);
+        cache.get(key("Mazatlan", null), this::load);
+        cache.get(key("Culiacan", new BigDecimal("500000")), this::load);
+
+        cache.invalidateMatching(changed("Culiacan", 250_000, EstateStatus.WAITING_FOR_APPROVAL, EstateStatus.APPROVED));
+
+        cache.get(key("Culiacan", null), this::load);
+        cache.get(key("Mazatlan", null), this::load);
+        cache.get(key("Culiacan", new BigDecimal("500000")), this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void changesOutsideTheApprovedSetKeepPages() {
+        cache.get(key("Culiacan", null), this::load);
+
+        cache.invalidateMatching(changed("Culiacan", 250_000, EstateStatus.WAITING_FOR_APPROVAL, EstateStatus.REJECTED));
+        cache.get(key("Culiacan", null), this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private static ListingPageCache.Key key(String city, BigDecimal minPrice) {
+        return ListingPageCache.Key.of(city, EstateType.SALE, minPrice, null, null, FIRST_PAGE, CountMode.EXACT);
+    }
+
+    private static EstateChangedEvent changed(String city, double price, EstateStatus from, EstateStatus to) {
+        return new EstateChangedEvent(new IndexedEstate(1L, city, EstateType.SALE, 1L, price, LocalDateTime.now()),
+                from, to);
+    }
+
+    private SliceResponse<EstateBasicResponse> load() {
+        loads.incrementAndGet();
+        return SliceResponse.of(new SliceImpl<>(List.of(), FIRST_PAGE, false), null);
+    }
+}
@@ -0,0 +1,132 @@
+package com.realestate.realestate.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+/**
+ * Checks the Java backfill migrations on PostgreSQL. The database is cleaned
+ * and migrated to the version before each backfill, seeded with rows the
+ * application could have written at that point, and migrated past it.
+ * Foreign keys are bypassed while seeding, so only the rows under test exist.
+ *
+ * <p>Runs on the database described in {@link PostgresDatabase}, which it
+ * cleans.
+ */
+@Tag("postgres")
+@EnabledIf("com.realestate.realestate.migration.PostgresDatabase#available")
+class BackfillMigrationTest {
+
+    // more estates than one JDBC batch of the backfills
+    private static final int ESTATES = 2500;
+
+    @BeforeEach
+    void cleanDatabase() {
+        flyway().load().clean();
+    }
+
+    @Test
+    void typedAttributesAreParsedFromCharacteristics() throws SQLException {
+        flyway().target("6").load().migrate();
+        seed("""
+                INSERT INTO estates (id, price, category_id, seller_id, address, city, description, name, status, type)
+                SELECT g, 1000, 1, 1, 'Centro', 'Culiacán', 'd', 'n', 'APPROVED', 'SALE'
+                FROM generate_series(1, %1$d) g;
+                INSERT INTO estate_characteristics (estate_id, name, value) VALUES
+                    (1, 'Recámaras', '3'), (1, ' BAÑOS ', '2.5'), (1, 'Superficie', '1,250.5 m²'),
+                    (2, 'Pool', 'yes'),
+                    (3, 'Bedrooms', '4'), (3, 'bedrooms', '5'), (3, 'area', 'large'), (3, 'Baths', '500');
+                INSERT INTO estate_characteristics (estate_id, name, value)
+                SELECT g, 'habitaciones', (g %% 5)::text FROM generate_series(4, %1$d) g;
+                """.formatted(ESTATES));
+
+        flyway().target("7").load().migrate();
+
+        assertThat(query("SELECT bedrooms, bathrooms, area FROM estates WHERE id <= 3 ORDER BY id"))
+                .containsExactly("3 2 1250.5", "null null null", "4 null null");
+        assertThat(query("SELECT count(bedrooms), sum(bedrooms) FROM estates WHERE id > 3"))
+                .containsExactly((ESTATES - 3) + " " + sumOfRemainders(4, ESTATES));
+    }
+
+    @Test
+    void cityKeysAreFoldedAndBlankCitiesAreLeftAsEntered() throws SQLException {
+        flyway().target("8").load().migrate();
+        seed("""
+                INSERT INTO sellers (id, rating, user_id, address, city, status) VALUES
+                    (1, 4, 1, 'Centro', 'Los  Mochis', 'APPROVED'), (2, 4, 2, 'Centro', ' ', 'APPROVED');
+                INSERT INTO estates (id, price, category_id, seller_id, address, city, description, name, status, type)
+                SELECT g, 1000, 1, 1, 'Centro', (ARRAY['Culiacán', 'culiacan', ' CULIACAN  '])[1 + g %% 3],
+                       'd', 'n', 'APPROVED', 'SALE'
+                FROM generate_series(1, %d) g;
+                INSERT INTO estates (id, price, category_id, seller_id, address, city, description, name, status, type)
+                VALUES (-1, 1000, 1, 1, 'Centro', '  ', 'd', 'n', 'APPROVED', 'SALE'),
+                       (-2, 1000, 1, 2, 'Centro', '', 'd', 'n', 'APPROVED', 'SALE');
+                """.formatted(ESTATES));
+
+        flyway().load().migrate();
+
+        assertThat(query("SELECT city_key, count(*) FROM estates WHERE id > 0 GROUP BY city_key"))
+                .containsExactly("culiacan " + ESTATES);
+        assertThat(query("SELECT id, city, city_key FROM estates WHERE id < 0 ORDER BY id DESC"))
+                .containsExactly("-1    ", "-2  ");
+        assertThat(query("SELECT city_key FROM sellers ORDER BY id")).containsExactly("los mochis", "");
+    }
+
+    private static long sumOfRemainders(int from, int to) {
+        long sum = 0;
+        for (int g = from; g <= to; g++) {
+            sum += g % 5;
+        }
+        return sum;
+    }
+
+    private FluentConfiguration flyway() {
+        return Flyway.configure()
+                .dataSource(PostgresDatabase.url(), PostgresDatabase.username(), PostgresDatabase.password())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false);
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(PostgresDatabase.url(), PostgresDatabase.username(),
+                PostgresDatabase.password());
+    }
+
+    private void seed(String sql) throws SQLException {
+        try (Connection connection = connect();
+                Statement statement = connection.createStatement()) {
+            statement.execute("SET session_replication_role = replica");
+            statement.execute(sql);
+        }
+    }
+
+    private List<String> query(String sql) throws SQLException {
+        try (Connection connection = connect();
+                Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(sql)) {
+            int columns = result.getMetaData().getColumnCount();
+            List<String> rows = new ArrayList<>();
+            while (result.next()) {
+                List<String> values = new ArrayList<>();
+                for (int column = 1; column <= columns; column++) {
+                    values.add(String.valueOf(result.getObject(column)));
+                }
+                rows.add(String.join(" ", values));
+            }
+            return rows;
+        }
+    }
+}
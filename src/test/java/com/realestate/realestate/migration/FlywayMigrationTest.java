@@ -0,0 +1,153 @@
+package com.realestate.realestate.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.StreamUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.metamodel.EntityType;
+
+/**
+ * Runs the migrations on PostgreSQL, which the other tests skip (they build
+ * the schema from the entities on H2). The application starts on a cleaned
+ * database, so Flyway migrates it from nothing and Hibernate validates the
+ * result against the entities. A database left by ddl-auto=update before
+ * migrations existed is then rebuilt from V1, baselined and migrated, and has
+ * to end up with the same schema and its data backfilled.
+ *
+ * <p>Runs on the database described in {@link PostgresDatabase}, which it
+ * cleans.
+ */
+@Tag("postgres")
+@EnabledIf("com.realestate.realestate.migration.PostgresDatabase#available")
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1" })
+class FlywayMigrationTest {
+
+    private static final String SCHEMA = """
+            SELECT table_name || '.' || column_name || ' ' || data_type || ' ' || is_nullable
+                   || ' ' || COALESCE(column_default, '')
+            FROM information_schema.columns
+            WHERE table_schema = 'public' AND table_name <> 'flyway_schema_history'
+            UNION ALL
+            SELECT indexdef FROM pg_indexes
+            WHERE schemaname = 'public' AND tablename <> 'flyway_schema_history'
+            ORDER BY 1
+            """;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PostgresDatabase::url);
+        registry.add("spring.datasource.username", PostgresDatabase::username);
+        registry.add("spring.datasource.password", PostgresDatabase::password);
+    }
+
+    @TestConfiguration
+    static class CleanDatabase {
+
+        @Bean
+        FlywayMigrationStrategy cleanThenMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void cleanDatabaseIsMigratedToTheSchemaTheEntitiesExpect() {
+        // ddl-auto=validate has already accepted the schema, or the context would not have started
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion())
+                .isEqualTo(flyway.info().all()[flyway.info().all().length - 1].getVersion());
+    }
+
+    @Test
+    void sequencesStepByTheAllocationSizeOfTheirEntities() {
+        Map<String, Long> allocationSizes = new TreeMap<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            for (Field field : entity.getJavaType().getDeclaredFields()) {
+                SequenceGenerator generator = field.getAnnotation(SequenceGenerator.class);
+                if (generator != null) {
+                    allocationSizes.put(generator.sequenceName(), (long) generator.allocationSize());
+                }
+            }
+        }
+        Map<String, Long> increments = new TreeMap<>();
+        jdbcTemplate.query("SELECT sequencename, increment_by FROM pg_sequences WHERE schemaname = 'public'",
+                (RowCallbackHandler) row -> increments.put(row.getString(1), row.getLong(2)));
+
+        assertThat(allocationSizes).isNotEmpty();
+        assertThat(increments).containsAllEntriesOf(allocationSizes);
+    }
+
+    @Test
+    void databaseFromBeforeMigrationsIsBaselinedAndUpgraded() throws IOException {
+        List<String> migrated = schema();
+
+        flyway.clean();
+        jdbcTemplate.execute(StreamUtils.copyToString(
+                new ClassPathResource("db/migration/V1__baseline_schema.sql").getInputStream(),
+                StandardCharsets.UTF_8));
+        // one estate with two images, bypassing the foreign keys so no users, sellers or categories are needed
+        jdbcTemplate.execute("""
+                SET session_replication_role = replica;
+                INSERT INTO estates (id, price, category_id, seller_id, address, city, description, name, status, type)
+                VALUES (1, 1000, 1, 1, 'Centro', 'Culiacán', 'd', 'n', 'APPROVED', 'SALE');
+                INSERT INTO estate_images (id, estate_id, s3url) VALUES (2, 1, 'second'), (1, 1, 'first');
+                SET session_replication_role = DEFAULT;
+                """);
+        flyway.migrate();
+
+        assertThat(flyway.info().applied()[0].getType()).isEqualTo(CoreMigrationType.BASELINE);
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(schema()).containsExactlyElementsOf(migrated);
+        assertThat(jdbcTemplate.queryForObject("SELECT main_image_url FROM estates WHERE id = 1", String.class))
+                .isEqualTo("first");
+        // the pooled optimizer hands out the 50 ids ending at nextval; they start past the existing rows
+        assertThat(jdbcTemplate.queryForObject("SELECT nextval('estates_seq') - 49", Long.class)).isGreaterThan(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT nextval('estate_images_seq') - 49", Long.class))
+                .isGreaterThan(2);
+    }
+
+    private List<String> schema() {
+        return jdbcTemplate.queryForList(SCHEMA, String.class);
+    }
+}
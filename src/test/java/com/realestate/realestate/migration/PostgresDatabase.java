@@ -0,0 +1,43 @@
+package com.realestate.realestate.migration;
+
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * The PostgreSQL database the migration tests run on: the one named by
+ * {@code -Dpostgres.db.url}, or else a disposable container started once per
+ * test run. Without either (no Docker) the tests are skipped.
+ */
+final class PostgresDatabase {
+
+    private static final String URL = System.getProperty("postgres.db.url");
+
+    private static PostgreSQLContainer<?> container;
+
+    private PostgresDatabase() {
+    }
+
+    static boolean available() {
+        return URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    static String url() {
+        return URL != null ? URL : container().getJdbcUrl();
+    }
+
+    static String username() {
+        return URL != null ? System.getProperty("postgres.db.username", "postgres") : container().getUsername();
+    }
+
+    static String password() {
+        return URL != null ? System.getProperty("postgres.db.password", "") : container().getPassword();
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+        }
+        return container;
+    }
+}
@@ -0,0 +1,155 @@
+package com.realestate.realestate.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Role;
+import com.realestate.realestate.entity.Seller;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.enums.RoleName;
+import com.realestate.realestate.enums.SellerStatus;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Every lookup runs in its own transaction, the way requests do, so a second
+ * lookup can only avoid the database through the second-level or query cache.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long categoryId;
+    private Long sellerId;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            Role role = roleRepository.save(Role.builder().name(RoleName.USER).build());
+            categoryId = categoryRepository.save(Category.builder().name("House").description("Houses").build())
+                    .getId();
+            User user = User.builder()
+                    .name("Ana")
+                    .lastName("Lopez")
+                    .email("ana@example.com")
+                    .password("secret")
+                    .contactNumber("6670000000")
+                    .build();
+            user.getRoles().add(role);
+            sellerId = sellerRepository.save(Seller.builder()
+                    .user(userRepository.save(user))
+                    .city("Culiacan")
+                    .address("Centro")
+                    .status(SellerStatus.APPROVED)
+                    .build())
+                    .getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            sellerRepository.deleteAll();
+            userRepository.deleteAll();
+            categoryRepository.deleteAll();
+            roleRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void roleLookupByNameIsServedFromTheQueryCache() {
+        assertThat(statements(() -> roleRepository.findByName(RoleName.USER).orElseThrow())).isEqualTo(1);
+        assertThat(statements(() -> roleRepository.findByName(RoleName.USER).orElseThrow())).isZero();
+    }
+
+    @Test
+    void categoryLookupsAreServedFromTheCache() {
+        assertThat(statements(() -> categoryRepository.findById(categoryId).orElseThrow())).isEqualTo(1);
+        assertThat(statements(() -> categoryRepository.findById(categoryId).orElseThrow())).isZero();
+
+        assertThat(statements(() -> categoryRepository.findAll())).isEqualTo(1);
+        assertThat(statements(() -> categoryRepository.findAll())).isZero();
+    }
+
+    @Test
+    void sellerAndUserOfAnEstateAreServedFromTheCache() {
+        Supplier<Object> sellerName = () -> sellerRepository.findById(sellerId).orElseThrow().getUser().getName();
+
+        assertThat(statements(sellerName)).isPositive();
+        assertThat(statements(sellerName)).isZero();
+    }
+
+    @Test
+    void currentUserAndSellerLookupsAreServedFromTheCache() {
+        Supplier<Object> currentSeller = () -> {
+            User user = userRepository.findByEmail("ana@example.com").orElseThrow();
+            return sellerRepository.findByUser(user).orElseThrow().getCity() + user.getRoles().size();
+        };
+
+        assertThat(statements(currentSeller)).isPositive();
+        assertThat(statements(currentSeller)).isZero();
+    }
+
+    @Test
+    void sellerUpdatesAreVisibleThroughTheCache() {
+        statements(() -> sellerRepository.findById(sellerId).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Seller seller = sellerRepository.findById(sellerId).orElseThrow();
+            seller.setCity("Mazatlan");
+        });
+
+        String byId = transactionTemplate.execute(status -> sellerRepository.findById(sellerId).orElseThrow().getCity());
+        String byUser = transactionTemplate.execute(status -> {
+            User user = userRepository.findByEmail("ana@example.com").orElseThrow();
+            return sellerRepository.findByUser(user).orElseThrow().getCity();
+        });
+        assertThat(byId).isEqualTo("Mazatlan");
+        assertThat(byUser).isEqualTo("Mazatlan");
+    }
+
+    private long statements(Supplier<?> lookup) {
+        statistics.clear();
+        transactionTemplate.execute(status -> lookup.get());
+        return statistics.getPrepareStatementCount();
+    }
+}
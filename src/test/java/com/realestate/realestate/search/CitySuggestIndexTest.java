@@ -0,0 +1,80 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.realestate.realestate.dto.estate.CitySuggestion;
+
+class CitySuggestIndexTest {
+
+    private final CitySuggestIndex index = new CitySuggestIndex();
+
+    @Test
+    void mergesSpellingsAndRanksByEstates() {
+        index.rebuild(List.of(
+                new CityCount("Culiacán", 40),
+                new CityCount("culiacan", 5),
+                new CityCount("Culiacan ", 3),
+                new CityCount("Cuauhtémoc", 20),
+                new CityCount("Mazatlán", 30),
+                new CityCount("Cu", 1)));
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.suggest("CU", 10)).contains(List.of(
+                new CitySuggestion("Culiacán", 48),
+                new CitySuggestion("Cuauhtémoc", 20),
+                new CitySuggestion("Cu", 1)));
+        assertThat(index.suggest("cuau", 10)).contains(List.of(new CitySuggestion("Cuauhtémoc", 20)));
+        assertThat(index.suggest(" ", 2)).contains(List.of(
+                new CitySuggestion("Culiacán", 48),
+                new CitySuggestion("Mazatlán", 30)));
+        assertThat(index.suggest("Guadalajara", 10)).contains(List.of());
+    }
+
+    @Test
+    void notReadyBeforeTheFirstBuild() {
+        assertThat(index.suggest("cu", 10)).isEmpty();
+    }
+
+    @Test
+    void matchesAScanOverRandomCities() {
+        Random random = new Random(7);
+        List<CityCount> counts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder city = new StringBuilder();
+            for (int length = 1 + random.nextInt(6); length > 0; length--) {
+                city.append((char) ('a' + random.nextInt(4)));
+            }
+            counts.add(new CityCount(city.toString(), 1 + random.nextInt(100)));
+        }
+        index.rebuild(counts);
+
+        for (int i = 0; i < 200; i++) {
+            String city = counts.get(random.nextInt(counts.size())).getCity();
+            String prefix = city.substring(0, Math.min(city.length(), 1 + random.nextInt(3)));
+            List<Long> expected = counts.stream()
+                    .filter(count -> count.getCity().startsWith(prefix))
+                    .collect(Collectors.groupingBy(CityCount::getCity,
+                            Collectors.summingLong(CityCount::getEstates)))
+                    .entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(CitySuggestIndex.MAX_SUGGESTIONS)
+                    .map(Map.Entry::getValue)
+                    .toList();
+
+            assertThat(index.suggest(prefix, CitySuggestIndex.MAX_SUGGESTIONS).orElseThrow())
+                    .extracting(CitySuggestion::getEstates)
+                    .as("prefix %s", prefix)
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class CoFavoriteIndexTest {
+
+    @Test
+    void ranksEstatesSavedByTheSameUsersByNormalisedCoOccurrence() {
+        CoFavoriteIndex index = new CoFavoriteIndex();
+        int recommended = index.rebuild(Stream.of(
+                new FavoritePair(1L, 10L), new FavoritePair(1L, 20L), new FavoritePair(1L, 30L),
+                new FavoritePair(2L, 10L), new FavoritePair(2L, 20L),
+                new FavoritePair(3L, 10L), new FavoritePair(3L, 30L), new FavoritePair(3L, 40L),
+                new FavoritePair(4L, 30L), new FavoritePair(4L, 50L), new FavoritePair(4L, 60L),
+                new FavoritePair(5L, 70L)));
+
+        assertThat(recommended).isEqualTo(6);
+        // 20 shares two of its two users with 10, 30 shares two of its three
+        assertThat(index.neighboursOf(10L, 5)).containsExactly(20L, 30L, 40L);
+        assertThat(index.neighboursOf(30L, 2)).containsExactly(10L, 40L);
+        assertThat(index.neighboursOf(70L, 5)).isEmpty();
+        assertThat(index.neighboursOf(99L, 5)).isEmpty();
+    }
+
+    @Test
+    void oversizedBasketsAreIgnoredAndEachEstateKeepsTheTopNeighbours() {
+        List<FavoritePair> favorites = new ArrayList<>();
+        LongStream.rangeClosed(1, CoFavoriteIndex.MAX_BASKET + 1)
+                .forEach(estateId -> favorites.add(new FavoritePair(1L, estateId)));
+        LongStream.rangeClosed(1, 30).forEach(estateId -> favorites.add(new FavoritePair(2L, estateId)));
+
+        CoFavoriteIndex index = new CoFavoriteIndex();
+        assertThat(index.rebuild(favorites.stream())).isEqualTo(30);
+        assertThat(index.size()).isEqualTo(30);
+        assertThat(index.neighboursOf(1L, 100)).hasSize(CoFavoriteIndex.NEIGHBOURS_PER_ESTATE).startsWith(2L, 3L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.realestate.realestate.enums.EngagementType;
+
+class EngagementCountersTest {
+
+    private static final long HOUR = EngagementCounters.BUCKET_MILLIS;
+    private static final long NOW = 1_000_000 * HOUR;
+
+    private final EngagementCounters counters = new EngagementCounters();
+
+    @Test
+    void ranksByWeightedEngagement() {
+        IntStream.range(0, 4).forEach(i -> counters.record(1L, EngagementType.VIEW, NOW));
+        counters.record(2L, EngagementType.FAVORITE, NOW);
+        counters.record(3L, EngagementType.APPOINTMENT, NOW);
+        counters.record(4L, EngagementType.VIEW, NOW);
+
+        assertThat(counters.top(3, NOW)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void olderEngagementDecaysAndLeavesTheWindow() {
+        counters.record(1L, EngagementType.APPOINTMENT, NOW - 96 * HOUR);
+        counters.record(2L, EngagementType.FAVORITE, NOW - HOUR);
+        counters.record(3L, EngagementType.APPOINTMENT, NOW - EngagementCounters.WINDOW_BUCKETS * HOUR);
+
+        // ten points four days ago are worth 2.5 now, less than five points an hour ago
+        assertThat(counters.top(5, NOW)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void reusedSlotsStartFromZero() {
+        counters.record(1L, EngagementType.APPOINTMENT, NOW);
+        long nextWeek = NOW + EngagementCounters.WINDOW_BUCKETS * HOUR;
+        counters.record(2L, EngagementType.VIEW, nextWeek);
+
+        assertThat(counters.top(5, nextWeek)).containsExactly(2L);
+    }
+}
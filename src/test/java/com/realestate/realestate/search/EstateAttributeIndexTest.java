@@ -0,0 +1,105 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.realestate.realestate.enums.EstateType;
+
+class EstateAttributeIndexTest {
+
+    private static final Pageable BY_PRICE = PageRequest.of(0, 10, Sort.by("price"));
+
+    private EstateAttributeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EstateAttributeIndex();
+        index.rebuild(Stream.of(
+                estate(1L, 100_000, 2, 1, 80.0),
+                estate(2L, 200_000, 3, 2, 120.0),
+                estate(3L, 300_000, 4, 3, 200.0),
+                estate(4L, 400_000, null, null, null)));
+    }
+
+    @Test
+    void filtersOnTypedAttributes() {
+        assertThat(search(new AttributeFilter(3, null, null, null))).containsExactly(2L, 3L);
+        assertThat(search(new AttributeFilter(null, 2, 100.0, 150.0))).containsExactly(2L);
+        assertThat(search(new AttributeFilter(null, null, null, 100.0))).containsExactly(1L);
+        assertThat(search(AttributeFilter.NONE)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void followsUpsertsAndRemovals() {
+        index.upsert(estate(4L, 400_000, 5, 4, 310.0));
+        index.upsert(estate(3L, 300_000, 2, 1, 70.0));
+        index.remove(2L);
+
+        assertThat(search(new AttributeFilter(3, null, null, null))).containsExactly(4L);
+        assertThat(search(new AttributeFilter(null, null, null, 100.0))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void pagesSelectiveAndUnfilteredSearchesInColumnOrder() {
+        // 400 estates, every 40th in Mazatlan: a selective filter next to the unfiltered column
+        index.rebuild(LongStream.rangeClosed(1, 400).mapToObj(id -> new IndexedEstate(id,
+                id % 40 == 0 ? "Mazatlan" : "Culiacan", EstateType.SALE, 1L, (id * 7919) % 1000,
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id % 50), null, null, null)));
+
+        List<Long> mazatlanByPrice = LongStream.rangeClosed(1, 400)
+                .filter(id -> id % 40 == 0)
+                .boxed()
+                .sorted(Comparator.<Long>comparingLong(id -> (id * 7919) % 1000).thenComparing(id -> id))
+                .toList();
+        assertThat(page("mazatlan", Sort.by("price"), 0, 4)).containsExactlyElementsOf(mazatlanByPrice.subList(0, 4));
+        assertThat(page("mazatlan", Sort.by("price"), 2, 4)).containsExactlyElementsOf(mazatlanByPrice.subList(8, 10));
+        assertThat(page("mazatlan", Sort.by("price"), 3, 4)).isEmpty();
+
+        // equal creation dates fall back to the id, descending as a whole
+        List<Long> newestFirst = LongStream.rangeClosed(1, 400)
+                .boxed()
+                .sorted(Comparator.<Long>comparingLong(id -> id % 50).thenComparing(id -> id).reversed())
+                .toList();
+        assertThat(page(null, Sort.by(Sort.Direction.DESC, "createdAt"), 39, 10))
+                .containsExactlyElementsOf(newestFirst.subList(390, 400));
+        assertThat(page("mazatlan", Sort.by(Sort.Direction.DESC, "createdAt"), 0, 10))
+                .containsExactlyElementsOf(newestFirst.stream().filter(id -> id % 40 == 0).toList());
+        assertThat(page(null, Sort.by("price"), 40, 10)).isEmpty();
+    }
+
+    @Test
+    void estateWithoutACityKeyIsNeitherACityFacetNorMatchedByOne() {
+        index.upsert(new IndexedEstate(5L, "  ", EstateType.SALE, 1L, 500_000, LocalDateTime.now()));
+
+        FacetCounts facets = index.facets(null, null, null, null, null, new double[] { 0 }).orElseThrow();
+        assertThat(facets.getCities()).containsOnlyKeys("Culiacan");
+        assertThat(facets.getTotal()).isEqualTo(5);
+        assertThat(page("culiacan", Sort.by("price"), 0, 10)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private List<Long> page(String city, Sort sort, int page, int size) {
+        return index.search(city, null, null, null, null, AttributeFilter.NONE, PageRequest.of(page, size, sort))
+                .orElseThrow()
+                .getContent();
+    }
+
+    private List<Long> search(AttributeFilter attributes) {
+        return index.search(null, null, null, null, null, attributes, BY_PRICE).orElseThrow().getContent();
+    }
+
+    private static IndexedEstate estate(Long id, double price, Integer bedrooms, Integer bathrooms, Double area) {
+        return new IndexedEstate(id, "Culiacan", EstateType.SALE, 1L, price, LocalDateTime.now(), bedrooms,
+                bathrooms, area);
+    }
+}
@@ -0,0 +1,103 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.enums.EstateType;
+
+class EstateLuceneIndexTest {
+
+    @TempDir
+    private Path indexPath;
+
+    private EstateLuceneIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new EstateLuceneIndex(indexPath);
+        index.open();
+        index.replaceAll(consumer -> consumer.accept(List.of(estate(1L, "Casa"), estate(2L, "Casa"))));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void searchesKeepTheOldIndexAndChangesAreReplayedOntoTheNewOne() {
+        int indexed = index.replaceAll(consumer -> {
+            consumer.accept(List.of(estate(1L, "Casa"), estate(3L, "Casa")));
+            // while the rebuild runs: the full old index is searched
+            assertThat(search("casa")).containsExactly(1L, 2L);
+            index.upsert(List.of(estate(4L, "Casa")));
+            index.remove(1L);
+            index.upsert(List.of(estate(5L, "Casa")));
+            consumer.accept(List.of(estate(5L, "Casa")));
+        });
+
+        assertThat(search("casa")).containsExactly(3L, 4L, 5L);
+        assertThat(indexed).isEqualTo(3);
+    }
+
+    @Test
+    void rebuildReplacesTheGenerationDirectory() throws IOException {
+        index.replaceAll(consumer -> consumer.accept(List.of(estate(7L, "Loft"))));
+
+        assertThat(search("casa")).isEmpty();
+        assertThat(search("loft")).containsExactly(7L);
+        try (Stream<Path> generations = Files.list(indexPath)) {
+            assertThat(generations).hasSize(1);
+        }
+    }
+
+    @Test
+    void filtersOnTypedAttributes() {
+        Estate large = estate(8L, "Casa");
+        large.setBedrooms(4);
+        large.setArea(250.0);
+        Estate small = estate(9L, "Casa");
+        small.setBedrooms(2);
+        small.setArea(90.0);
+        index.upsert(List.of(large, small));
+
+        assertThat(search("casa", new AttributeFilter(3, null, null, null))).containsExactly(8L);
+        assertThat(search("casa", new AttributeFilter(null, null, null, 100.0))).containsExactly(9L);
+        assertThat(search("casa", new AttributeFilter(null, 1, null, null))).isEmpty();
+    }
+
+    private List<Long> search(String text) {
+        return search(text, AttributeFilter.NONE);
+    }
+
+    private List<Long> search(String text, AttributeFilter attributes) {
+        return index.search(text, null, null, null, null, attributes, "price", true, PageRequest.of(0, 10))
+                .getContent();
+    }
+
+    private static Estate estate(Long id, String name) {
+        return Estate.builder()
+                .id(id)
+                .name(name)
+                .description("Description " + id)
+                .address("Street " + id)
+                .city("Culiacan")
+                .type(EstateType.SALE)
+                .category(Category.builder().id(1L).build())
+                .price(100_000 + id)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realestate.realestate.enums.EstateType;
+
+class PriceSketchIndexTest {
+
+    private PriceSketchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PriceSketchIndex();
+        index.rebuild(Stream.of(
+                estate(1L, "Culiacán", 1L, 100),
+                estate(2L, "culiacan", 1L, 200),
+                estate(3L, "Culiacan", 2L, 900),
+                estate(4L, "Mazatlán", 1L, 5_000)));
+    }
+
+    @Test
+    void summarizesEachSegmentAndTheWildcards() {
+        assertThat(index.summarize("culiacan", null, null).orElseThrow().getCount()).isEqualTo(3);
+        assertThat(index.summarize("culiacan", 1L, EstateType.SALE).orElseThrow().getMean()).isEqualTo(150);
+        assertThat(index.summarize(null, 1L, null).orElseThrow().getCount()).isEqualTo(3);
+        assertThat(index.summarize(null, null, null).orElseThrow().getMean()).isEqualTo(1_550);
+        assertThat(index.summarize("mazatlan", 2L, null).orElseThrow().getCount()).isZero();
+    }
+
+    @Test
+    void upsertMovesAnEstateBetweenSegments() {
+        index.upsert(estate(4L, "Culiacán", 2L, 1_100));
+        index.upsert(estate(5L, "Mazatlán", 1L, 7_000));
+        index.refreshStale();
+
+        assertThat(index.summarize("culiacan", 2L, null).orElseThrow().getMean()).isEqualTo(1_000);
+        PriceSummary mazatlan = index.summarize("mazatlan", null, null).orElseThrow();
+        assertThat(mazatlan.getCount()).isEqualTo(1);
+        assertThat(mazatlan.getMedian()).isEqualTo(7_000);
+    }
+
+    @Test
+    void removalIsExactAtOnceAndLeavesThePercentilesUntilRefreshed() {
+        index.remove(3L);
+
+        PriceSummary stale = index.summarize("culiacan", null, null).orElseThrow();
+        assertThat(stale.getCount()).isEqualTo(2);
+        assertThat(stale.getMean()).isEqualTo(150);
+        assertThat(stale.getP90()).isGreaterThan(200);
+
+        // the estate's eight segments, seven of which it shares with others or leaves empty
+        assertThat(index.refreshStale()).isEqualTo(8);
+        assertThat(index.summarize("culiacan", null, null).orElseThrow().getP90()).isLessThanOrEqualTo(200);
+        assertThat(index.summarize("culiacan", 2L, null).orElseThrow().getCount()).isZero();
+        assertThat(index.refreshStale()).isZero();
+    }
+
+    @Test
+    void updatesDuringARefreshAreKeptAndDoNotWaitForIt() {
+        index.remove(3L);
+        // runs on another thread while the refresh reads its snapshot, so it would time out if the
+        // refresh held the lock
+        Runnable concurrentUpdates = () -> CompletableFuture.runAsync(() -> {
+            index.upsert(estate(6L, "Culiacan", 1L, 600));
+            index.remove(2L);
+        }).orTimeout(5, TimeUnit.SECONDS).join();
+        HookedEstate hooked = new HookedEstate(7L, "Culiacan", 1L, 300);
+        index.upsert(hooked);
+        hooked.hook = concurrentUpdates;
+
+        index.refreshStale();
+
+        PriceSummary culiacan = index.summarize("culiacan", 1L, null).orElseThrow();
+        assertThat(culiacan.getCount()).isEqualTo(3);
+        assertThat(culiacan.getMean()).isEqualTo(1_000 / 3.0);
+
+        // the removal made during the refresh marked its segments stale again
+        index.refreshStale();
+        assertThat(index.summarize("culiacan", 1L, null).orElseThrow().getMedian()).isEqualTo(300);
+    }
+
+    @Test
+    void updatesDuringAFullRebuildAreReplayedOntoTheNewState() {
+        index.rebuild(Stream.of(estate(1L, "Culiacan", 1L, 100), estate(2L, "Culiacan", 1L, 200))
+                .peek(estate -> {
+                    if (estate.getId() == 2L) {
+                        index.upsert(estate(8L, "Culiacan", 1L, 300));
+                        index.remove(1L);
+                    }
+                }));
+
+        PriceSummary culiacan = index.summarize("culiacan", null, null).orElseThrow();
+        assertThat(culiacan.getCount()).isEqualTo(2);
+        assertThat(culiacan.getMean()).isEqualTo(250);
+        assertThat(culiacan.getP10()).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void estateWithoutACityKeyCountsOnceTowardsAllCities() {
+        index.upsert(estate(9L, "  ", 1L, 1_800));
+
+        assertThat(index.summarize(null, null, null).orElseThrow().getCount()).isEqualTo(5);
+        assertThat(index.summarize(null, 1L, EstateType.SALE).orElseThrow().getCount()).isEqualTo(4);
+    }
+
+    private static IndexedEstate estate(Long id, String city, Long categoryId, double price) {
+        return new IndexedEstate(id, city, EstateType.SALE, categoryId, price, LocalDateTime.now());
+    }
+
+    // runs the hook once, the next time its price is read
+    private static final class HookedEstate extends IndexedEstate {
+
+        private Runnable hook;
+
+        HookedEstate(Long id, String city, Long categoryId, double price) {
+            super(id, city, EstateType.SALE, categoryId, price, LocalDateTime.now());
+        }
+
+        @Override
+        public double getPrice() {
+            if (hook != null) {
+                Runnable run = hook;
+                hook = null;
+                run.run();
+            }
+            return super.getPrice();
+        }
+    }
+}
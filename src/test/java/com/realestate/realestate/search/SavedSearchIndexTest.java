@@ -0,0 +1,102 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realestate.realestate.enums.EstateType;
+
+class SavedSearchIndexTest {
+
+    private SavedSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SavedSearchIndex();
+        index.rebuild(Stream.of(
+                search(1L, 10L, "Madrid", EstateType.SALE, null, 200_000.0, 400_000.0),
+                search(2L, 11L, "Madrid", null, null, null, 250_000.0),
+                search(3L, 12L, null, EstateType.SALE, 1L, 300_000.0, null),
+                search(4L, 13L, "Sevilla", EstateType.SALE, null, null, null),
+                search(5L, 14L, null, EstateType.RENT, null, 500.0, 2_000.0)));
+    }
+
+    @Test
+    void matchesSearchesWhoseFiltersAllAcceptTheEstate() {
+        assertThat(ids(index.matching(estate("Madrid", EstateType.SALE, 1L, 300_000)))).containsExactly(1L, 3L);
+        assertThat(ids(index.matching(estate("Madrid", EstateType.RENT, 2L, 1_500)))).containsExactly(2L, 5L);
+        assertThat(ids(index.matching(estate("Sevilla", EstateType.SALE, 2L, 400_000)))).containsExactly(4L);
+        assertThat(index.matching(estate("Bilbao", EstateType.SALE, 2L, 100_000))).isEmpty();
+    }
+
+    @Test
+    void priceBoundsAreInclusive() {
+        assertThat(ids(index.matching(estate("Madrid", EstateType.SALE, 2L, 200_000)))).containsExactly(1L, 2L);
+        assertThat(ids(index.matching(estate("Madrid", EstateType.SALE, 2L, 400_000)))).containsExactly(1L);
+    }
+
+    @Test
+    void followsNewAndDeletedSearches() {
+        index.remove(1L);
+        index.upsert(search(6L, 15L, "Madrid", null, 1L, null, null));
+
+        assertThat(ids(index.matching(estate("Madrid", EstateType.SALE, 1L, 300_000)))).containsExactly(3L, 6L);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void priceLookupsAgreeWithAScanAcrossUpdates() {
+        Random random = new Random(7);
+        SavedSearchIndex priced = new SavedSearchIndex();
+        List<IndexedSavedSearch> live = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            live.add(randomPriceSearch(random, id));
+        }
+        priced.rebuild(live.stream());
+
+        for (long id = 301; id <= 800; id++) {
+            if (random.nextInt(3) == 0) {
+                IndexedSavedSearch gone = live.remove(random.nextInt(live.size()));
+                priced.remove(gone.getId());
+            } else {
+                IndexedSavedSearch added = randomPriceSearch(random, id);
+                live.add(added);
+                priced.upsert(added);
+            }
+            double price = random.nextInt(1_000);
+            List<Long> expected = live.stream()
+                    .filter(search -> (search.getMinPrice() == null || search.getMinPrice() <= price)
+                            && (search.getMaxPrice() == null || price <= search.getMaxPrice()))
+                    .map(IndexedSavedSearch::getId)
+                    .sorted()
+                    .toList();
+            assertThat(ids(priced.matching(estate("Madrid", EstateType.SALE, 1L, price)))).isEqualTo(expected);
+        }
+    }
+
+    private static IndexedSavedSearch randomPriceSearch(Random random, long id) {
+        Double min = random.nextInt(5) == 0 ? null : (double) random.nextInt(1_000);
+        Double max = random.nextInt(5) == 0 ? null : (min == null ? 0 : min) + random.nextInt(300);
+        return search(id, id, null, null, null, min, max);
+    }
+
+    private static List<Long> ids(List<IndexedSavedSearch> searches) {
+        return searches.stream().map(IndexedSavedSearch::getId).toList();
+    }
+
+    private static IndexedSavedSearch search(Long id, Long userId, String city, EstateType type, Long categoryId,
+            Double minPrice, Double maxPrice) {
+        return new IndexedSavedSearch(id, userId, city, type, categoryId, minPrice, maxPrice);
+    }
+
+    private static IndexedEstate estate(String city, EstateType type, Long categoryId, double price) {
+        return new IndexedEstate(100L, city, type, categoryId, price, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,66 @@
+package com.realestate.realestate.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realestate.realestate.enums.EstateType;
+
+class SimilarEstateIndexTest {
+
+    private SimilarEstateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SimilarEstateIndex();
+        index.rebuild(
+                Stream.of(
+                        estate(1L, "Madrid", 1L, EstateType.SALE, 300_000),
+                        estate(2L, "Madrid", 1L, EstateType.SALE, 310_000),
+                        estate(3L, "Madrid", 1L, EstateType.SALE, 320_000),
+                        estate(4L, "Sevilla", 1L, EstateType.SALE, 300_000),
+                        estate(5L, "Madrid", 2L, EstateType.RENT, 1_200),
+                        estate(6L, "Madrid", 1L, EstateType.SALE, 900_000)),
+                Stream.of(
+                        characteristic(1L, "Bedrooms", "3"),
+                        characteristic(1L, "Pool", "yes"),
+                        characteristic(2L, "bedrooms", "2"),
+                        characteristic(3L, "Bedrooms ", "3"),
+                        characteristic(3L, "pool", "YES")));
+    }
+
+    @Test
+    void ranksByPriceLocationCategoryTypeAndCharacteristics() {
+        assertThat(index.similarTo(1L, 5)).contains(List.of(3L, 2L, 4L, 6L, 5L));
+        assertThat(index.similarTo(1L, 2)).contains(List.of(3L, 2L));
+    }
+
+    @Test
+    void unknownEstatesHaveNoRecommendations() {
+        assertThat(index.similarTo(99L, 5)).isEmpty();
+    }
+
+    @Test
+    void followsUpsertsAndRemovals() {
+        index.remove(3L);
+        index.upsert(estate(7L, "Madrid", 1L, EstateType.SALE, 300_000),
+                List.of(characteristic(7L, "Bedrooms", "3"), characteristic(7L, "Pool", "yes")));
+
+        assertThat(index.similarTo(1L, 2)).contains(List.of(7L, 2L));
+        assertThat(index.similarTo(3L, 2)).isEmpty();
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    private static IndexedEstate estate(Long id, String city, Long categoryId, EstateType type, double price) {
+        return new IndexedEstate(id, city, type, categoryId, price, LocalDateTime.now());
+    }
+
+    private static IndexedCharacteristic characteristic(Long estateId, String name, String value) {
+        return new IndexedCharacteristic(estateId, name, value);
+    }
+}
@@ -0,0 +1,130 @@
+package com.realestate.realestate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.realestate.realestate.dto.estate.EstateImportResponse;
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Seller;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.enums.ImportJobStatus;
+import com.realestate.realestate.enums.SellerStatus;
+import com.realestate.realestate.exception.common.ResourceNotFoundException;
+import com.realestate.realestate.util.SecurityUtil;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ EstateImportService.class, EstateImportWorker.class })
+@ImportAutoConfiguration({ JacksonAutoConfiguration.class, ValidationAutoConfiguration.class })
+class EstateImportServiceTest {
+
+    @Autowired
+    private EstateImportService estateImportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private SecurityUtil securityUtil;
+
+    private Category category;
+
+    @BeforeEach
+    void seed() {
+        User user = entityManager.persist(User.builder()
+                .name("Ana")
+                .lastName("Lopez")
+                .email("ana@example.com")
+                .password("secret")
+                .contactNumber("6670000000")
+                .build());
+        Seller seller = entityManager.persist(Seller.builder()
+                .user(user)
+                .city("Culiacan")
+                .address("Centro")
+                .status(SellerStatus.APPROVED)
+                .build());
+        category = entityManager.persist(Category.builder()
+                .name("House")
+                .description("Houses")
+                .build());
+        entityManager.flush();
+        when(securityUtil.getCurrentSeller()).thenReturn(seller);
+    }
+
+    @Test
+    void csvImportInsertsValidRowsAndReportsTheRest() {
+        String csv = String.join("\n",
+                "name,description,price,type,categoryId,city,address,latitude,longitude,imageUrls,characteristics",
+                "Casa 1,Three bedroom house,2500000,sale," + category.getId()
+                        + ",Culiacan,Street 1,24.8,-107.4,https://img/1a.jpg|https://img/1b.jpg,bedrooms=3|garage=yes",
+                "Casa 2,Short,abc,SALE," + category.getId() + ",--,Street 2,,,,",
+                "Depa 3,Two bedroom apartment,15000,RENT,999999,Culiacan,Street 3,24.8,,,",
+                "Depa 4,Two bedroom apartment,15000,RENT," + category.getId() + ",Mazatlan,Street 4,,,,rooms=2");
+
+        EstateImportResponse job = estateImportService.importFile(
+                new MockMultipartFile("file", "estates.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(job.getTotalRows()).isEqualTo(4);
+        assertThat(job.getImportedRows()).isEqualTo(2);
+        assertThat(job.getFailedRows()).isEqualTo(2);
+        assertThat(job.getRows()).extracting(EstateImportResponse.RowResult::getRow).containsExactly(1, 2, 3, 4);
+        assertThat(job.getRows().get(1).getErrors()).anyMatch(error -> error.startsWith("price"))
+                .anyMatch(error -> error.startsWith("description"))
+                .anyMatch(error -> error.startsWith("city"));
+        assertThat(job.getRows().get(2).getErrors()).contains(
+                "Latitude and longitude must be provided together",
+                "Category not found with id: 999999");
+
+        Long firstId = job.getRows().get(0).getEstateId();
+        assertThat(jdbcTemplate.queryForObject("SELECT main_image_url FROM estates WHERE id = ?", String.class,
+                firstId)).isEqualTo("https://img/1a.jpg");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM estate_images WHERE estate_id = ?",
+                Integer.class, firstId)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM estate_characteristics ORDER BY id", String.class))
+                .containsExactly("bedrooms", "garage", "rooms");
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM estates", String.class))
+                .containsOnly("WAITING_FOR_APPROVAL");
+    }
+
+    @Test
+    void jsonImportIsReadableByTheSellerOnly() {
+        String json = """
+                [{"name": "Casa", "description": "Three bedroom house", "price": 100000, "type": "SALE",
+                  "categoryId": %d, "city": "Culiacan", "address": "Street 1"}]
+                """.formatted(category.getId());
+
+        EstateImportResponse job = estateImportService.importFile(
+                new MockMultipartFile("file", "estates.json", "application/json", json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(job.getImportedRows()).isEqualTo(1);
+        assertThat(estateImportService.getJob(job.getJobId()).getRows())
+                .extracting(EstateImportResponse.RowResult::getEstateId)
+                .doesNotContainNull();
+
+        when(securityUtil.getCurrentSeller()).thenReturn(Seller.builder().id(-1L).build());
+        assertThatThrownBy(() -> estateImportService.getJob(job.getJobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.realestate.realestate.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.realestate.realestate.cache.ListingPageCache;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.event.EstateChangedEvent;
+import com.realestate.realestate.repository.EstateRepository;
+import com.realestate.realestate.search.EstateAttributeIndex;
+import com.realestate.realestate.search.EstateLuceneIndex;
+import com.realestate.realestate.search.IndexedEstate;
+import com.realestate.realestate.search.SimilarEstateIndex;
+
+import jakarta.persistence.EntityManager;
+
+class EstateIndexServiceTest {
+
+    private EstateAttributeIndex attributeIndex;
+    private EstateLuceneIndex luceneIndex;
+    private ListingPageCache listingPageCache;
+    private EstateIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        attributeIndex = mock(EstateAttributeIndex.class);
+        luceneIndex = mock(EstateLuceneIndex.class);
+        listingPageCache = mock(ListingPageCache.class);
+        service = new EstateIndexService(mock(EstateRepository.class), attributeIndex, luceneIndex,
+                mock(SimilarEstateIndex.class), listingPageCache, mock(EntityManager.class));
+    }
+
+    @Test
+    void listingPagesAreDroppedAfterTheIndexesApplyTheChange() {
+        EstateChangedEvent event = approved(1L);
+
+        service.onEstateChanged(event);
+
+        verify(listingPageCache, timeout(TimeUnit.SECONDS.toMillis(5))).invalidateMatching(event);
+        InOrder order = inOrder(attributeIndex, luceneIndex, listingPageCache);
+        order.verify(attributeIndex).upsert(event.getEstate());
+        order.verify(luceneIndex).upsert(any());
+        order.verify(listingPageCache).invalidateMatching(event);
+    }
+
+    @Test
+    void listingPagesAreDroppedWhenTheIndexChangeFails() {
+        EstateChangedEvent event = approved(2L);
+        doThrow(new IllegalStateException("index closed")).when(attributeIndex).upsert(event.getEstate());
+
+        service.onEstateChanged(event);
+
+        verify(listingPageCache, timeout(TimeUnit.SECONDS.toMillis(5))).invalidateMatching(event);
+    }
+
+    private static EstateChangedEvent approved(Long id) {
+        return new EstateChangedEvent(new IndexedEstate(id, "Culiacan", EstateType.SALE, 1L, 100_000,
+                LocalDateTime.now()), EstateStatus.WAITING_FOR_APPROVAL, EstateStatus.APPROVED);
+    }
+}
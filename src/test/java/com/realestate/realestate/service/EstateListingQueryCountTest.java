@@ -0,0 +1,250 @@
+package com.realestate.realestate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.realestate.realestate.cache.EstateResponseCache;
+import com.realestate.realestate.cache.ListingPageCache;
+import com.realestate.realestate.dto.common.CursorPageResponse;
+import com.realestate.realestate.dto.common.SliceResponse;
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.dto.estate.EstateBatchResponse;
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.entity.EstateImage;
+import com.realestate.realestate.entity.Seller;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.enums.CountMode;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.enums.SellerStatus;
+import com.realestate.realestate.search.AttributeFilter;
+import com.realestate.realestate.search.CoFavoriteIndex;
+import com.realestate.realestate.search.EstateAttributeIndex;
+import com.realestate.realestate.search.EstateLuceneIndex;
+import com.realestate.realestate.search.SimilarEstateIndex;
+import com.realestate.realestate.util.SecurityUtil;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ EstateService.class, EstateExportService.class, ListingCountService.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class EstateListingQueryCountTest {
+
+    private static final int ESTATES = 30;
+    private static final int IMAGES_PER_ESTATE = 3;
+
+    @Autowired
+    private EstateService estateService;
+
+    @Autowired
+    private EstateExportService estateExportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private ImageService imageService;
+
+    @MockitoBean
+    private EstateResponseCache estateResponseCache;
+
+    @MockitoBean
+    private ListingPageCache listingPageCache;
+
+    @MockitoBean
+    private SecurityUtil securityUtil;
+
+    @MockitoBean
+    private EstateAttributeIndex attributeIndex;
+
+    @MockitoBean
+    private EstateLuceneIndex luceneIndex;
+
+    @MockitoBean
+    private SimilarEstateIndex similarIndex;
+
+    @MockitoBean
+    private CoFavoriteIndex coFavoriteIndex;
+
+    @MockitoBean
+    private EstateViewService estateViewService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        when(listingPageCache.get(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(estateResponseCache.getAll(any(), any()))
+                .thenAnswer(invocation -> invocation.<Function<Set<Long>, ?>>getArgument(1)
+                        .apply(Set.copyOf(invocation.<Collection<Long>>getArgument(0))));
+
+        User user = entityManager.persist(User.builder()
+                .name("Ana")
+                .lastName("Lopez")
+                .email("ana@example.com")
+                .password("secret")
+                .contactNumber("6670000000")
+                .build());
+        Seller seller = entityManager.persist(Seller.builder()
+                .user(user)
+                .city("Culiacan")
+                .address("Centro")
+                .status(SellerStatus.APPROVED)
+                .build());
+        Category category = entityManager.persist(Category.builder()
+                .name("House")
+                .description("Houses")
+                .build());
+
+        for (int i = 0; i < ESTATES; i++) {
+            Estate estate = Estate.builder()
+                    .name("Estate " + i)
+                    .description("Description for estate " + i)
+                    .price(100_000 + i * 1_000)
+                    .type(i % 2 == 0 ? EstateType.SALE : EstateType.RENT)
+                    .category(category)
+                    .seller(seller)
+                    .city("Culiacan")
+                    .address("Street " + i)
+                    .status(EstateStatus.APPROVED)
+                    .mainImageUrl("https://img/" + i + "/0.jpg")
+                    .build();
+            for (int j = 0; j < IMAGES_PER_ESTATE; j++) {
+                estate.getImages().add(EstateImage.builder()
+                        .estate(estate)
+                        .s3url("https://img/" + i + "/" + j + ".jpg")
+                        .build());
+            }
+            entityManager.persist(estate);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void searchPageIssuesOneSelectPlusCount() {
+        SliceResponse<EstateBasicResponse> page = estateService.searchEstates(
+                "Culiacan", null, null, null, null, AttributeFilter.NONE,
+                PageRequest.of(1, 10, Sort.by("createdAt").descending()),
+                CountMode.EXACT);
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(estate -> assertThat(estate.getMainImageUrl()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void allEstatesPageIssuesOneSelectPlusCount() {
+        SliceResponse<EstateBasicResponse> page = estateService.getAllEstates(0, 25, CountMode.EXACT);
+
+        assertThat(page.getContent()).hasSize(25);
+        assertThat(page.getPage().getTotalElements()).isEqualTo(ESTATES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void countFreeSearchSkipsCountQuery() {
+        SliceResponse<EstateBasicResponse> first = estateService.searchEstates(
+                "Culiacan", null, null, null, null, AttributeFilter.NONE,
+                PageRequest.of(0, 10, Sort.by("createdAt").descending()),
+                CountMode.NONE);
+
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(first.getPage().isHasNext()).isTrue();
+        assertThat(first.getPage().getTotalElements()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        SliceResponse<EstateBasicResponse> last = estateService.searchEstates(
+                "Culiacan", null, null, null, null, AttributeFilter.NONE,
+                PageRequest.of(2, 10, Sort.by("createdAt").descending()),
+                CountMode.NONE);
+
+        assertThat(last.getPage().isHasNext()).isFalse();
+        assertThat(last.getPage().getTotalElements()).isEqualTo(ESTATES);
+    }
+
+    @Test
+    void batchLookupLoadsDetailsInFixedQueries() {
+        List<Long> ids = new ArrayList<>(entityManager.getEntityManager()
+                .createQuery("SELECT e.id FROM Estate e ORDER BY e.id DESC", Long.class)
+                .setMaxResults(12)
+                .getResultList());
+        ids.add(1, -1L);
+        statistics.clear();
+
+        EstateBatchResponse batch = estateService.getEstatesByIds(ids);
+
+        assertThat(batch.getItems()).extracting(EstateBatchResponse.Item::getId).containsExactlyElementsOf(ids);
+        assertThat(batch.getItems().get(1).getStatus()).isEqualTo(404);
+        assertThat(batch.getItems().get(0).getEstate().getImages()).hasSize(IMAGES_PER_ESTATE);
+        assertThat(batch.getItems().get(0).getEstate().getSeller().getUserName()).isEqualTo("Ana Lopez");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void exportStreamsOneLinePerApprovedEstate() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = estateExportService.exportApproved(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(ESTATES);
+        assertThat(lines).hasSize(ESTATES);
+        assertThat(lines[0]).startsWith("{\"id\":").contains("\"images\":[{");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void scrollSliceIssuesExactlyOneSelect() {
+        CursorPageResponse<EstateBasicResponse> first = estateService.scrollEstates(
+                null, EstateType.SALE, null, null, null, AttributeFilter.NONE, "price", Sort.Direction.ASC, null, 5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        CursorPageResponse<EstateBasicResponse> second = estateService.scrollEstates(
+                null, EstateType.SALE, null, null, null, AttributeFilter.NONE, "price", Sort.Direction.ASC,
+                first.getNextCursor(), 5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        List<Double> prices = second.getContent().stream().map(EstateBasicResponse::getPrice).toList();
+        assertThat(prices).isSorted();
+        assertThat(prices.get(0)).isGreaterThan(first.getContent().get(4).getPrice());
+        assertThat(second.isHasNext()).isTrue();
+    }
+}
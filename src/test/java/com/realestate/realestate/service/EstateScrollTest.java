@@ -0,0 +1,197 @@
+package com.realestate.realestate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.realestate.realestate.cache.EstateResponseCache;
+import com.realestate.realestate.cache.ListingPageCache;
+import com.realestate.realestate.dto.common.CursorPageResponse;
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.entity.Seller;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.EstateType;
+import com.realestate.realestate.enums.SellerStatus;
+import com.realestate.realestate.exception.common.BadRequestException;
+import com.realestate.realestate.search.AttributeFilter;
+import com.realestate.realestate.search.CoFavoriteIndex;
+import com.realestate.realestate.search.EstateAttributeIndex;
+import com.realestate.realestate.search.EstateLuceneIndex;
+import com.realestate.realestate.search.SimilarEstateIndex;
+import com.realestate.realestate.util.SecurityUtil;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ EstateService.class, ListingCountService.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class EstateScrollTest {
+
+    private static final int ESTATES = 13;
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private EstateService estateService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private ImageService imageService;
+
+    @MockitoBean
+    private EstateResponseCache estateResponseCache;
+
+    @MockitoBean
+    private ListingPageCache listingPageCache;
+
+    @MockitoBean
+    private SecurityUtil securityUtil;
+
+    @MockitoBean
+    private EstateAttributeIndex attributeIndex;
+
+    @MockitoBean
+    private EstateLuceneIndex luceneIndex;
+
+    @MockitoBean
+    private SimilarEstateIndex similarIndex;
+
+    @MockitoBean
+    private CoFavoriteIndex coFavoriteIndex;
+
+    @MockitoBean
+    private EstateViewService estateViewService;
+
+    @BeforeEach
+    void seed() {
+        User user = entityManager.persist(User.builder()
+                .name("Ana")
+                .lastName("Lopez")
+                .email("ana@example.com")
+                .password("secret")
+                .contactNumber("6670000000")
+                .build());
+        Seller seller = entityManager.persist(Seller.builder()
+                .user(user)
+                .city("Culiacan")
+                .address("Centro")
+                .status(SellerStatus.APPROVED)
+                .build());
+        Category category = entityManager.persist(Category.builder()
+                .name("House")
+                .description("Houses")
+                .build());
+
+        // three prices and three timestamps, so every page boundary falls inside a run of equal keys
+        for (int i = 0; i < ESTATES; i++) {
+            Estate estate = entityManager.persist(Estate.builder()
+                    .name("Estate " + i)
+                    .description("Description for estate " + i)
+                    .price(100_000 + (i % 3) * 50_000)
+                    .bedrooms(i % 5 == 0 ? null : i % 5)
+                    .type(EstateType.SALE)
+                    .category(category)
+                    .seller(seller)
+                    .city("Culiacan")
+                    .address("Street " + i)
+                    .status(EstateStatus.APPROVED)
+                    .build());
+            entityManager.flush();
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE estates SET created_at = ? WHERE id = ?")
+                    .setParameter(1, START.plusDays(i % 4 == 0 ? 0 : i % 2 + 1))
+                    .setParameter(2, estate.getId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    void scrollsByCreatedAtWithoutRepeatsOrSkips() {
+        Comparator<EstateBasicResponse> byCreatedAt = Comparator.comparing(EstateBasicResponse::getCreatedAt)
+                .thenComparing(EstateBasicResponse::getId);
+
+        assertScrollsInOrder("createdAt", Sort.Direction.ASC, byCreatedAt);
+        assertScrollsInOrder("createdAt", Sort.Direction.DESC, byCreatedAt.reversed());
+    }
+
+    @Test
+    void scrollsByPriceWithoutRepeatsOrSkips() {
+        Comparator<EstateBasicResponse> byPrice = Comparator.comparing(EstateBasicResponse::getPrice)
+                .thenComparing(EstateBasicResponse::getId);
+
+        assertScrollsInOrder("price", Sort.Direction.ASC, byPrice);
+        assertScrollsInOrder("price", Sort.Direction.DESC, byPrice.reversed());
+    }
+
+    @Test
+    void rejectsCursorFromAnotherSortOrder() {
+        String next = scroll("price", Sort.Direction.ASC, null).getNextCursor();
+
+        assertThatThrownBy(() -> scroll("createdAt", Sort.Direction.ASC, next))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> scroll("price", Sort.Direction.ASC, next + "x"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void scrollAppliesAttributeFilters() {
+        AttributeFilter threeBedrooms = new AttributeFilter(3, null, null, null);
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPageResponse<EstateBasicResponse> page = estateService.scrollEstates("Culiacan", null, null, null,
+                    null, threeBedrooms, "price", Sort.Direction.ASC, after, PAGE_SIZE);
+            page.getContent().forEach(estate -> ids.add(estate.getId()));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        // seeds 3, 4, 8 and 9 have three or four bedrooms; 0, 5 and 10 have none
+        assertThat(ids).hasSize(4).doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(entityManager.find(Estate.class, id).getBedrooms())
+                .isGreaterThanOrEqualTo(3));
+    }
+
+    private void assertScrollsInOrder(String sortBy, Sort.Direction direction,
+            Comparator<EstateBasicResponse> order) {
+        List<EstateBasicResponse> seen = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<EstateBasicResponse> page = scroll(sortBy, direction, after);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            seen.addAll(page.getContent());
+            after = page.getNextCursor();
+            assertThat(after == null).isEqualTo(!page.isHasNext());
+            assertThat(++pages).isLessThanOrEqualTo(ESTATES);
+        } while (after != null);
+
+        assertThat(seen).extracting(EstateBasicResponse::getId).doesNotHaveDuplicates().hasSize(ESTATES);
+        assertThat(seen).isSortedAccordingTo(order);
+    }
+
+    private CursorPageResponse<EstateBasicResponse> scroll(String sortBy, Sort.Direction direction, String after) {
+        return estateService.scrollEstates("Culiacan", null, null, null, null, AttributeFilter.NONE, sortBy, direction,
+                after, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,92 @@
+package com.realestate.realestate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.realestate.realestate.repository.EstateViewCountRepository;
+
+/**
+ * Two application instances flushing the first views of the same estates at
+ * the same moment, on PostgreSQL: both inserts race for each new
+ * estate_view_counts row, and both flushes must succeed with every view kept.
+ *
+ * <p>Needs an empty, disposable PostgreSQL database:
+ * {@code mvn test -Pbenchmark -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/realestate_benchmark}
+ */
+@Tag("benchmark")
+class EstateViewFlushConcurrencyTest {
+
+    private static final String URL = System.getProperty("benchmark.db.url",
+            "jdbc:postgresql://localhost:5432/realestate_benchmark");
+    private static final String USER = System.getProperty("benchmark.db.username", "postgres");
+    private static final String PASSWORD = System.getProperty("benchmark.db.password", "");
+
+    private static final int ESTATES = 500;
+
+    @Test
+    void concurrentFirstFlushesOfTheSameEstatesBothSucceed() {
+        Flyway flyway = Flyway.configure()
+                .dataSource(URL, USER, PASSWORD)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, USER, PASSWORD);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                SET session_replication_role = replica;
+                INSERT INTO estates (id, price, category_id, seller_id, address, city, city_key, description, name,
+                                     status, type)
+                SELECT g, 1000, 1, 1, 'Centro', 'Culiacan', 'culiacan', 'd', 'n', 'APPROVED', 'SALE'
+                FROM generate_series(1, %d) g;
+                """.formatted(ESTATES));
+
+        EstateViewService first = service(jdbcTemplate, dataSource);
+        EstateViewService second = service(jdbcTemplate, dataSource);
+        LongStream.rangeClosed(1, ESTATES).forEach(estateId -> {
+            first.record(estateId);
+            first.record(estateId);
+            second.record(estateId);
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        CompletableFuture<Integer> firstFlush = CompletableFuture.supplyAsync(() -> flushAfter(start, first));
+        CompletableFuture<Integer> secondFlush = CompletableFuture.supplyAsync(() -> flushAfter(start, second));
+        start.countDown();
+
+        assertThat(firstFlush.join()).isEqualTo(ESTATES);
+        assertThat(secondFlush.join()).isEqualTo(ESTATES);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT views FROM estate_view_counts", Long.class))
+                .containsExactly(3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM estate_view_counts", Long.class))
+                .isEqualTo(ESTATES);
+    }
+
+    private static EstateViewService service(JdbcTemplate jdbcTemplate, DriverManagerDataSource dataSource) {
+        return new EstateViewService(jdbcTemplate, mock(EstateViewCountRepository.class),
+                new DataSourceTransactionManager(dataSource));
+    }
+
+    private static int flushAfter(CountDownLatch start, EstateViewService service) {
+        try {
+            start.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        return service.flush();
+    }
+}
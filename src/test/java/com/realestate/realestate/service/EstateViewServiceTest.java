@@ -0,0 +1,112 @@
+package com.realestate.realestate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.realestate.realestate.entity.Category;
+import com.realestate.realestate.entity.Estate;
+import com.realestate.realestate.entity.Seller;
+import com.realestate.realestate.entity.User;
+import com.realestate.realestate.enums.EstateStatus;
+import com.realestate.realestate.enums.SellerStatus;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EstateViewService.class)
+class EstateViewServiceTest {
+
+    @Autowired
+    private EstateViewService estateViewService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void seed() {
+        User user = entityManager.persist(User.builder()
+                .name("Ana")
+                .lastName("Lopez")
+                .email("ana@example.com")
+                .password("secret")
+                .contactNumber("6670000000")
+                .build());
+        Seller seller = entityManager.persist(Seller.builder()
+                .user(user)
+                .city("Culiacan")
+                .address("Centro")
+                .status(SellerStatus.APPROVED)
+                .build());
+        Category category = entityManager.persist(Category.builder()
+                .name("House")
+                .description("Houses")
+                .build());
+        firstId = entityManager.persist(estate("Casa 1", seller, category)).getId();
+        secondId = entityManager.persist(estate("Casa 2", seller, category)).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void flushAddsPendingViewsToTheStoredCounts() {
+        IntStream.range(0, 3).forEach(i -> estateViewService.record(firstId));
+        estateViewService.record(secondId);
+        assertThat(estateViewService.flush()).isEqualTo(2);
+
+        IntStream.range(0, 2).forEach(i -> estateViewService.record(firstId));
+        assertThat(estateViewService.flush()).isEqualTo(1);
+        assertThat(estateViewService.flush()).isZero();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT views FROM estate_view_counts WHERE estate_id = ?",
+                Long.class, firstId)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT views FROM estate_view_counts WHERE estate_id = ?",
+                Long.class, secondId)).isEqualTo(1);
+    }
+
+    @Test
+    void viewCountsIncludeViewsNotFlushedYet() {
+        estateViewService.record(firstId);
+        estateViewService.flush();
+        estateViewService.record(firstId);
+
+        assertThat(estateViewService.viewCounts(List.of(firstId, secondId)))
+                .isEqualTo(Map.of(firstId, 2L, secondId, 0L));
+    }
+
+    @Test
+    void viewsOfDeletedEstatesAreDropped() {
+        estateViewService.record(-1L);
+
+        assertThat(estateViewService.flush()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM estate_view_counts", Long.class)).isZero();
+    }
+
+    private static Estate estate(String name, Seller seller, Category category) {
+        return Estate.builder()
+                .name(name)
+                .description("Three bedroom house")
+                .price(2_500_000)
+                .category(category)
+                .seller(seller)
+                .city("Culiacan")
+                .address("Street 1")
+                .status(EstateStatus.APPROVED)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.realestate.realestate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.realestate.realestate.dto.estate.CreateEstateRequest;
+
+class EstateAttributesTest {
+
+    @Test
+    void readsKnownNamesIgnoringCaseAndAccents() {
+        EstateAttributes attributes = EstateAttributes.from(List.of(
+                characteristic("Recámaras", "3"),
+                characteristic(" BAÑOS ", "2.5 baños"),
+                characteristic("Superficie", "1,250.5 m²"),
+                characteristic("Pool", "yes")));
+
+        assertThat(attributes.getBedrooms()).isEqualTo(3);
+        assertThat(attributes.getBathrooms()).isEqualTo(2);
+        assertThat(attributes.getArea()).isEqualTo(1250.5);
+    }
+
+    @Test
+    void firstRecognisedValueWins() {
+        EstateAttributes attributes = EstateAttributes.from(List.of(
+                characteristic("bedrooms", "4"),
+                characteristic("habitaciones", "2"),
+                characteristic("m2", "120"),
+                characteristic("area", "90")));
+
+        assertThat(attributes.getBedrooms()).isEqualTo(4);
+        assertThat(attributes.getArea()).isEqualTo(120);
+    }
+
+    @Test
+    void ignoresValuesWithoutAUsableNumber() {
+        EstateAttributes attributes = EstateAttributes.from(List.of(
+                characteristic("Bedrooms", "many"),
+                characteristic("Bathrooms", "500"),
+                characteristic("Area", "0 m2")));
+
+        assertThat(attributes.isEmpty()).isTrue();
+        assertThat(EstateAttributes.from(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void parsesThousandsAndDecimalSeparators() {
+        assertThat(EstateAttributes.number("1.200")).isEqualTo(1200);
+        assertThat(EstateAttributes.number("2,5")).isEqualTo(2.5);
+        assertThat(EstateAttributes.number("approx. 1,250,000 sqm")).isEqualTo(1_250_000);
+        assertThat(EstateAttributes.number("n/a")).isNull();
+    }
+
+    private static CreateEstateRequest.CharacteristicRequest characteristic(String name, String value) {
+        return new CreateEstateRequest.CharacteristicRequest(name, value);
+    }
+}
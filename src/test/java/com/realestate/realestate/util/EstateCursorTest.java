@@ -0,0 +1,71 @@
+package com.realestate.realestate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.realestate.realestate.exception.common.BadRequestException;
+
+class EstateCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndPriceCursors() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_789);
+        EstateCursor byDate = EstateCursor.decode(
+                EstateCursor.of("createdAt", Sort.Direction.DESC, createdAt, 1_500.0, 42L).encode(),
+                "createdAt", Sort.Direction.DESC);
+
+        assertThat(byDate.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(byDate.getPrice()).isNull();
+        assertThat(byDate.getId()).isEqualTo(42L);
+
+        EstateCursor byPrice = EstateCursor.decode(
+                EstateCursor.of("price", Sort.Direction.ASC, createdAt, 1_234_567.89, 7L).encode(),
+                "price", Sort.Direction.ASC);
+
+        assertThat(byPrice.getPrice()).isEqualTo(1_234_567.89);
+        assertThat(byPrice.getCreatedAt()).isNull();
+        assertThat(byPrice.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void rejectsCursorForAnotherSortOrder() {
+        String token = EstateCursor.of("price", Sort.Direction.ASC, null, 100.0, 1L).encode();
+
+        assertThatThrownBy(() -> EstateCursor.decode(token, "price", Sort.Direction.DESC))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cursor does not match the requested sort order");
+        assertThatThrownBy(() -> EstateCursor.decode(token, "createdAt", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cursor does not match the requested sort order");
+    }
+
+    @Test
+    void rejectsGarbageAndTamperedCursors() {
+        assertInvalid("not a cursor!", "price");
+        assertInvalid(token("price|ASC|100.0"), "price");
+        assertInvalid(token("price|ASC|100.0|1|2"), "price");
+        assertInvalid(token("price|ASC|cheap|1"), "price");
+        assertInvalid(token("price|ASC|NaN|1"), "price");
+        assertInvalid(token("price|ASC|Infinity|1"), "price");
+        assertInvalid(token("price|ASC|100.0|one"), "price");
+        assertInvalid(token("price|ASC|100.0|-1"), "price");
+        assertInvalid(token("createdAt|ASC|yesterday|1"), "createdAt");
+    }
+
+    private static void assertInvalid(String token, String sortBy) {
+        assertThatThrownBy(() -> EstateCursor.decode(token, sortBy, Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,74 @@
+package com.realestate.realestate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import com.realestate.realestate.dto.estate.EstateBasicResponse;
+import com.realestate.realestate.dto.estate.EstateVersion;
+
+class HttpCachingTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000);
+
+    @Test
+    void eTagChangesWhenSellerIsUpdated() {
+        EstateVersion version = new EstateVersion(1L, UPDATED, UPDATED.minusDays(3), UPDATED.minusDays(9));
+        EstateVersion sellerUpdated = new EstateVersion(1L, UPDATED, UPDATED.plusSeconds(1), UPDATED.minusDays(9));
+
+        assertThat(HttpCaching.eTag(version)).startsWith("\"1-").endsWith("\"");
+        assertThat(HttpCaching.eTag(sellerUpdated)).isNotEqualTo(HttpCaching.eTag(version));
+        assertThat(HttpCaching.lastModified(sellerUpdated)).isGreaterThan(HttpCaching.lastModified(version));
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() {
+        String eTag = "\"1-abc\"";
+        HttpHeaders headers = new HttpHeaders();
+
+        headers.setIfNoneMatch(List.of("\"other\"", "W/\"1-abc\""));
+        assertThat(HttpCaching.isNotModified(headers, eTag, -1)).isTrue();
+
+        headers.setIfNoneMatch("\"1-abd\"");
+        assertThat(HttpCaching.isNotModified(headers, eTag, 0)).isFalse();
+
+        headers.setIfNoneMatch("*");
+        assertThat(HttpCaching.isNotModified(headers, eTag, -1)).isTrue();
+    }
+
+    @Test
+    void ifModifiedSinceIsIgnoredWhenEntityTagsAreSent() {
+        long lastModified = 1_700_000_000_123L;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(1_700_000_000_000L);
+
+        assertThat(HttpCaching.isNotModified(headers, "\"1-abc\"", lastModified)).isTrue();
+        assertThat(HttpCaching.isNotModified(headers, "\"1-abc\"", lastModified + 1000)).isFalse();
+
+        headers.setIfNoneMatch("\"1-abd\"");
+        assertThat(HttpCaching.isNotModified(headers, "\"1-abc\"", lastModified)).isFalse();
+    }
+
+    @Test
+    void listingETagTracksIdsAndUpdates() {
+        List<EstateBasicResponse> page = List.of(estate(1L, UPDATED), estate(2L, UPDATED.minusHours(1)));
+        String eTag = HttpCaching.listingETag(page, "0:10");
+
+        assertThat(eTag).startsWith("W/\"");
+        assertThat(HttpCaching.listingETag(List.of(estate(1L, UPDATED), estate(2L, UPDATED.minusHours(1))), "0:10"))
+                .isEqualTo(eTag);
+        assertThat(HttpCaching.listingETag(List.of(estate(2L, UPDATED.minusHours(1)), estate(1L, UPDATED)), "0:10"))
+                .isNotEqualTo(eTag);
+        assertThat(HttpCaching.listingETag(List.of(estate(1L, UPDATED.plusNanos(1000)), estate(2L, UPDATED)), "0:10"))
+                .isNotEqualTo(eTag);
+        assertThat(HttpCaching.listingETag(page, "1:10")).isNotEqualTo(eTag);
+    }
+
+    private static EstateBasicResponse estate(Long id, LocalDateTime updatedAt) {
+        return EstateBasicResponse.builder().id(id).updatedAt(updatedAt).build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.realestate.realestate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TextFoldingTest {
+
+    @Test
+    void foldsCaseAccentsAndWhitespace() {
+        assertThat(TextFolding.fold("Culiacán")).isEqualTo("culiacan");
+        assertThat(TextFolding.fold("  CULIACAN ")).isEqualTo("culiacan");
+        assertThat(TextFolding.fold("San  José\tdel Cabo")).isEqualTo("san jose del cabo");
+        assertThat(TextFolding.fold("Cañadas")).isEqualTo("canadas");
+    }
+
+    @Test
+    void blankTextHasNoKey() {
+        assertThat(TextFolding.fold(null)).isNull();
+        assertThat(TextFolding.fold(" \t ")).isNull();
+    }
+}
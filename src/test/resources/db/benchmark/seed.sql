@@ -0,0 +1,50 @@
+-- Synthetic data for the index benchmarks: 20k users (2k of them sellers),
+-- 300k estates (70% approved, 1/3 rent) across 50 cities and 8 categories,
+-- 300k appointments, 300k favorites and 200k refresh tokens.
+
+INSERT INTO users (email_verified, enabled, created_at, contact_number, email, last_name, name, password)
+SELECT true, true, now() - g * interval '1 minute', '6670000000', 'user' || g || '@bench.test', 'Bench', 'User ' || g, 'x'
+FROM generate_series(1, 20000) g;
+
+INSERT INTO sellers (rating, created_at, user_id, address, city, status)
+SELECT 4.5, now(), g, 'Centro', 'City ' || (g % 50), 'APPROVED'
+FROM generate_series(1, 2000) g;
+
+INSERT INTO categories (name, description)
+SELECT 'Category ' || g, 'Category ' || g
+FROM generate_series(1, 8) g;
+
+INSERT INTO estates (price, category_id, created_at, seller_id, address, city, description, name, status, type)
+SELECT CASE WHEN g % 3 = 0 THEN 3000 + (g::bigint * 7919) % 47000 ELSE 300000 + (g::bigint * 104729) % 9700000 END,
+       1 + g % 8,
+       now() - g * interval '1 minute',
+       1 + g % 2000,
+       'Street ' || g,
+       'City ' || ((g * 31) % 50),
+       'Description for estate ' || g,
+       'Estate ' || g,
+       CASE WHEN g % 10 < 7 THEN 'APPROVED'
+            WHEN g % 10 = 7 THEN 'WAITING_FOR_APPROVAL'
+            WHEN g % 10 = 8 THEN 'SOLD'
+            ELSE 'RENTED' END,
+       CASE WHEN g % 3 = 0 THEN 'RENT' ELSE 'SALE' END
+FROM generate_series(1, 300000) g;
+
+INSERT INTO appointments (appointment_date, client_id, created_at, estate_id, seller_id, status)
+SELECT date_trunc('hour', now()) + (g % 2000) * interval '1 hour',
+       2001 + g % 18000,
+       now(),
+       1 + (g::bigint * 13) % 300000,
+       1 + g % 2000,
+       (ARRAY['PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED', 'REJECTED'])[1 + g % 5]
+FROM generate_series(1, 300000) g;
+
+INSERT INTO favorites (created_at, estate_id, user_id)
+SELECT now() - g * interval '1 second', 1 + (g * 31) % 300000, 2001 + g % 18000
+FROM generate_series(1, 300000) g;
+
+INSERT INTO refresh_tokens (revoked, created_at, expires_at, user_id, token)
+SELECT false, now(), now() + ((g % 60) - 30) * interval '1 day', 1 + g % 20000, 'token-' || g
+FROM generate_series(1, 200000) g;
+
+ANALYZE;